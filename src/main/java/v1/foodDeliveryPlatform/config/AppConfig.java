@@ -7,10 +7,19 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -18,12 +27,16 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,8 +45,14 @@ import v1.foodDeliveryPlatform.props.MinioProperties;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Configuration
 @RequiredArgsConstructor(onConstructor = @__(@Lazy))
@@ -41,8 +60,11 @@ import java.util.stream.Collectors;
 @EnableWebSecurity
 public class AppConfig {
 
+    private static final int MAX_ROLE_SETS = 256;
+
     private final MinioProperties minioProperties;
     private final JwtProps jwtProps;
+    private final Map<List<String>, Collection<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
 
     @Bean
     public OpenAPI openAPI() {
@@ -66,13 +88,76 @@ public class AppConfig {
     }
 
     @Bean
-    public MinioClient minioClient() {
+    public MinioClient minioClient(Environment environment) {
+        MinioProperties.Http http = minioProperties.getHttp();
+        Dispatcher dispatcher = Threading.VIRTUAL.isActive(environment)
+                ? new Dispatcher(Executors.newVirtualThreadPerTaskExecutor())
+                : new Dispatcher();
+        dispatcher.setMaxRequests(http.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(http.getMaxRequestsPerHost());
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(http.getMaxIdleConnections(),
+                        http.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(http.getConnectTimeout())
+                .readTimeout(http.getReadTimeout())
+                .writeTimeout(http.getWriteTimeout())
+                .protocols(List.of(Protocol.HTTP_1_1))
+                .build();
         return MinioClient.builder()
                 .endpoint(minioProperties.getEndpoint())
                 .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(httpClient)
                 .build();
     }
 
+    /**
+     * Anonymous catalog reads are matched first and handled by a chain without bearer token
+     * authentication, session, request cache or logout handling. Authenticated GETs under the
+     * same prefixes (exists, name, export) are not listed and fall through to the full chain.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(publicReadEndpoints())
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessionManagementConfigurer ->
+                        sessionManagementConfigurer
+                                .sessionCreationPolicy(
+                                        SessionCreationPolicy.STATELESS)
+                )
+                .authorizeHttpRequests(authorizationManagerRequestMatcherRegistry ->
+                        authorizationManagerRequestMatcherRegistry
+                                .anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    static RequestMatcher publicReadEndpoints() {
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        return new OrRequestMatcher(Stream.of(
+                        "/swagger-ui/**",
+                        "/v3/api-docs/**",
+                        "/api/v1/restaurants",
+                        "/api/v1/restaurants/*",
+                        "/api/v1/restaurants/cuisine/counts",
+                        "/api/v1/restaurants/*/menu",
+                        "/api/v1/restaurants/*/dishes",
+                        "/api/v1/restaurants/*/images/**",
+                        "/api/v1/dishes",
+                        "/api/v1/dishes/*",
+                        "/api/v1/dishes/*/images/**",
+                        "/api/v1/suggestions",
+                        "/api/v1/catalog/changes")
+                .map(pattern -> (RequestMatcher) paths.matcher(HttpMethod.GET, pattern))
+                .toList());
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -108,6 +193,14 @@ public class AppConfig {
                                 .permitAll()
                                 .requestMatchers("/api/v1/dishes/*/images/**")
                                 .permitAll()
+                                .requestMatchers("/api/v1/dishes")
+                                .permitAll()
+                                .requestMatchers("/api/v1/dishes/search")
+                                .permitAll()
+                                .requestMatchers("/api/v1/suggestions")
+                                .permitAll()
+                                .requestMatchers("/api/v1/catalog/changes")
+                                .permitAll()
                                 .requestMatchers("/api/v1/restaurants/*/images/**")
                                 .permitAll()
                                 .requestMatchers("/api/v1/restaurants/**")
@@ -140,18 +233,32 @@ public class AppConfig {
     @Bean
     public JwtDecoder jwtDecoder() {
 
-        return NimbusJwtDecoder.withSecretKey(
+        return new CachingJwtDecoder(NimbusJwtDecoder.withSecretKey(
                 new SecretKeySpec(jwtProps.getSecret().getBytes(), "HmacSHA256")
-        ).build();
+        ).build(), jwtProps.getCacheSize());
     }
 
+    /**
+     * Tokens carry one of a handful of role sets, so the authority lists are built once
+     * per distinct set and shared between requests.
+     */
     private Converter<Jwt, AbstractAuthenticationToken> jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
         converter.setJwtGrantedAuthoritiesConverter(jwt -> {
             List<String> roles = jwt.getClaim("roles");
-            return roles != null ?
-                    roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()) :
-                    List.of();
+            if (roles == null) {
+                return List.of();
+            }
+            Collection<GrantedAuthority> authorities = authoritiesByRoles.get(roles);
+            if (authorities == null) {
+                authorities = roles.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toUnmodifiableList());
+                if (authoritiesByRoles.size() < MAX_ROLE_SETS) {
+                    authoritiesByRoles.putIfAbsent(List.copyOf(roles), authorities);
+                }
+            }
+            return authorities;
         });
         return converter;
     }
@@ -178,12 +285,16 @@ public class AppConfig {
                 "Accept",
                 "Origin",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"
+                "Access-Control-Request-Headers",
+                "If-Match",
+                "If-None-Match"
         ));
 
         configuration.setExposedHeaders(Arrays.asList(
                 "Access-Control-Allow-Origin",
-                "Access-Control-Allow-Credentials"
+                "Access-Control-Allow-Credentials",
+                "ETag",
+                "Last-Modified"
         ));
 
         configuration.setAllowCredentials(true);
@@ -0,0 +1,74 @@
+package v1.foodDeliveryPlatform.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers successfully decoded tokens until they expire, so callers that reuse one
+ * token skip parsing and signature verification. Entries are keyed by the SHA-256 of the
+ * token; rejected tokens and tokens without {@code exp} are never cached. Each entry expires
+ * at its token's {@code exp}, and a full cache evicts by size without blocking readers.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize) {
+        this(delegate, maxSize, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Jwt>creating((key, jwt) ->
+                        Duration.between(clock.instant(), jwt.getExpiresAt())))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && clock.instant().isBefore(jwt.getExpiresAt())) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package v1.foodDeliveryPlatform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import v1.foodDeliveryPlatform.props.CatalogExportProperties;
+import v1.foodDeliveryPlatform.props.DataSourcePoolProperties;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Builds the Hikari pool from {@code spring.datasource} unless {@code datasource-pool.max-size}
+     * is set. Scheduled jobs and catalog exports each hold a connection for their whole run, so
+     * those are reserved on top of the per-core share for requests, and the result never drops
+     * below {@code datasource-pool.min-size}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties,
+                                       DataSourcePoolProperties pool,
+                                       CatalogExportProperties catalogExportProperties,
+                                       TaskSchedulingProperties taskSchedulingProperties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        int reserved = catalogExportProperties.getMaxConcurrent() + taskSchedulingProperties.getPool().getSize();
+        dataSource.setMaximumPoolSize(maximumPoolSize(pool, Runtime.getRuntime().availableProcessors(), reserved));
+        return dataSource;
+    }
+
+    static int maximumPoolSize(DataSourcePoolProperties pool, int cores, int reserved) {
+        if (pool.getMaxSize() > 0) {
+            return pool.getMaxSize();
+        }
+        return Math.max(pool.getMinSize(), cores * pool.getConnectionsPerCore() + 1 + reserved);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -23,10 +24,17 @@ import java.util.Map;
 @EnableCaching
 public class RedisConfig {
 
+    /**
+     * Bumped whenever the shape of a cached entity changes, so entries written by the previous
+     * release are never read back into the new classes.
+     */
+    private static final String CACHE_NAME_PREFIX = "v2:";
+
     @Bean
     public RedisCacheConfiguration cacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1))
+                .prefixCacheNameWith(CACHE_NAME_PREFIX)
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper())));
@@ -57,11 +65,14 @@ public class RedisConfig {
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfiguration())
                 .withInitialCacheConfigurations(cacheConfigs)
+                .transactionAware()
                 .build();
     }
 
     private RedisCacheConfiguration configWithTtl(Duration duration) {
-        return RedisCacheConfiguration.defaultCacheConfig().entryTtl(duration);
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(duration)
+                .prefixCacheNameWith(CACHE_NAME_PREFIX);
     }
 
     @Bean
@@ -74,4 +85,13 @@ public class RedisConfig {
         template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper()));
         return template;
     }
+
+    @Bean
+    public RedisTemplate<String, byte[]> responseCacheTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
 }
@@ -0,0 +1,33 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import v1.foodDeliveryPlatform.props.Http2Properties;
+
+@Configuration
+public class TomcatConfig {
+
+    /**
+     * Tunes the HTTP/2 protocol Boot registers when {@code server.http2.enabled} is set. Without
+     * TLS it is negotiated as h2c, either by upgrade or with prior knowledge, which is what
+     * internal callers use to multiplex many small requests over one connection.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer(Http2Properties properties) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+                    http2.setMaxConcurrentStreamExecution(properties.getMaxConcurrentStreamExecution());
+                    http2.setKeepAliveTimeout(properties.getKeepAliveTimeout().toMillis());
+                    http2.setReadTimeout(properties.getReadTimeout().toMillis());
+                    http2.setStreamReadTimeout(properties.getStreamReadTimeout().toMillis());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import v1.foodDeliveryPlatform.props.WebAsyncProperties;
+
+@Configuration
+public class WebAsyncConfig {
+
+    private static final String THREAD_NAME_PREFIX = "mvc-async-";
+
+    /**
+     * Gives streamed responses their own executor instead of sharing Boot's application executor
+     * with {@code @Async} listeners. The executor is deliberately not a bean: any {@code Executor}
+     * bean would make Boot drop the application executor altogether.
+     */
+    @Bean
+    public AsyncSupport asyncSupport(WebAsyncProperties properties,
+                                     ServerProperties serverProperties,
+                                     Environment environment) {
+        AsyncTaskExecutor executor = Threading.VIRTUAL.isActive(environment)
+                ? virtualExecutor()
+                : platformExecutor(properties, serverProperties.getTomcat().getThreads().getMax());
+        return new AsyncSupport(executor, properties);
+    }
+
+    static SimpleAsyncTaskExecutor virtualExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * A slow client ties up one thread for as long as it drains its body, so the pool starts
+     * as many threads as the connector before it queues anything; idle threads time out.
+     */
+    static ThreadPoolTaskExecutor platformExecutor(WebAsyncProperties properties, int connectorThreads) {
+        int poolSize = properties.getPoolSize() > 0 ? properties.getPoolSize() : connectorThreads;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.initialize();
+        return executor;
+    }
+
+    public static class AsyncSupport implements WebMvcConfigurer, DisposableBean {
+
+        private final AsyncTaskExecutor executor;
+        private final WebAsyncProperties properties;
+
+        AsyncSupport(AsyncTaskExecutor executor, WebAsyncProperties properties) {
+            this.executor = executor;
+            this.properties = properties;
+        }
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.setTaskExecutor(executor);
+            long timeout = properties.getRequestTimeout().toMillis();
+            configurer.setDefaultTimeout(timeout > 0 ? timeout : -1);
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            if (executor instanceof DisposableBean disposable) {
+                disposable.destroy();
+            } else if (executor instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
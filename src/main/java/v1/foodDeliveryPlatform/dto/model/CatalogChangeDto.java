@@ -0,0 +1,49 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Latest change of a restaurant or a dish")
+public class CatalogChangeDto {
+
+    @Schema(description = "Sequence number of the change", example = "1042")
+    private Long seq;
+
+    @Schema(description = "Kind of the changed entity", example = "DISH")
+    private CatalogEntityType entityType;
+
+    @Schema(
+            description = "Identifier of the changed entity",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID entityId;
+
+    @Schema(
+            description = "Restaurant the entity belongs to",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID restaurantId;
+
+    @Schema(description = "Whether the entity has been deleted", example = "false")
+    private boolean deleted;
+
+    @Schema(description = "Current restaurant state without its dishes, absent for dishes and tombstones")
+    private RestaurantDto restaurant;
+
+    @Schema(description = "Current dish state, absent for restaurants and tombstones")
+    private DishDto dish;
+}
@@ -0,0 +1,26 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Catalog changes after a sequence number")
+public class CatalogChangesDto {
+
+    @Schema(description = "Changes ordered by sequence number, one per entity")
+    private List<CatalogChangeDto> changes;
+
+    @Schema(description = "Value of since for the next request", example = "1042")
+    private long nextSince;
+
+    @Schema(description = "Whether more changes are available right away", example = "false")
+    private boolean hasMore;
+}
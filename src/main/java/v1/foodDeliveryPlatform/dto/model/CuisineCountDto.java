@@ -0,0 +1,33 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of restaurants per cuisine")
+public class CuisineCountDto {
+
+    @Schema(
+            description = "Canonical cuisine code",
+            example = "ITALIAN"
+    )
+    private String cuisine;
+
+    @Schema(
+            description = "Cuisine display name",
+            example = "Итальянская"
+    )
+    private String name;
+
+    @Schema(
+            description = "Number of restaurants with this cuisine",
+            example = "42"
+    )
+    private long count;
+}
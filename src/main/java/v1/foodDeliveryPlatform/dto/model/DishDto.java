@@ -73,4 +73,11 @@ public class DishDto {
     )
     private List<String> images;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(
+            description = "Current dish version, also returned as the ETag; send it back in If-Match for conditional writes (read only)",
+            example = "3",
+            accessMode = Schema.AccessMode.READ_ONLY
+    )
+    private Long version;
 }
@@ -0,0 +1,55 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+import v1.foodDeliveryPlatform.model.enums.DishSort;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dish query parameters")
+public class DishFilterDto {
+
+    @Schema(
+            description = "Only dishes of this restaurant",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID restaurantId;
+
+    @DecimalMin(value = "0.0", message = "Min price must be greater or equal 0")
+    @Schema(description = "Lower price bound (inclusive)", example = "100.00")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0.0", message = "Max price must be greater or equal 0")
+    @Schema(description = "Upper price bound (inclusive)", example = "500.00")
+    private BigDecimal maxPrice;
+
+    @Length(max = 255, message = "Dish name must be smaller 255 characters")
+    @Schema(description = "Part of the dish name, case insensitive", example = "pizza")
+    private String name;
+
+    @Builder.Default
+    @Schema(description = "Sort order", example = "PRICE_ASC", defaultValue = "PRICE_ASC")
+    private DishSort sort = DishSort.PRICE_ASC;
+
+    @Schema(description = "Cursor returned with the previous page")
+    private String cursor;
+
+    @Builder.Default
+    @Min(value = 1, message = "Page size must be between 1 and 100")
+    @Max(value = 100, message = "Page size must be between 1 and 100")
+    @Schema(description = "Page size", example = "20", defaultValue = "20")
+    private Integer size = 20;
+}
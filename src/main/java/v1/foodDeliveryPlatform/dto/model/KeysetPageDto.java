@@ -0,0 +1,35 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.KeysetPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Page of results addressed by an opaque cursor")
+public class KeysetPageDto<T> {
+
+    @Schema(description = "Items on the current page")
+    private List<T> content;
+
+    @Schema(
+            description = "Cursor of the next page, absent on the last page",
+            example = "UFJJQ0VfQVNDfDEyLjk5fDEyM2U0NTY3LWU4OWItMTJkMy1hNDU2LTQyNjYxNDE3NDAwMA"
+    )
+    private String nextCursor;
+
+    public static <E, T> KeysetPageDto<T> of(KeysetPage<E> page, Function<E, T> mapper) {
+        return KeysetPageDto.<T>builder()
+                .content(page.getContent().stream().map(mapper).toList())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+}
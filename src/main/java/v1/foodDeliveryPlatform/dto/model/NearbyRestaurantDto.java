@@ -0,0 +1,60 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Restaurant found near a given point")
+public class NearbyRestaurantDto {
+
+    @Schema(
+            description = "Unique restaurant identifier",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID id;
+
+    @Schema(
+            description = "Name of the restaurant",
+            example = "La Bella Italia"
+    )
+    private String name;
+
+    @Schema(
+            description = "Cuisine code of the restaurant",
+            example = "ITALIAN"
+    )
+    private String cuisine;
+
+    @Schema(
+            description = "Physical address of the restaurant",
+            example = "123 Main Street, New York, NY 10001"
+    )
+    private String address;
+
+    @Schema(
+            description = "Latitude of the restaurant in degrees",
+            example = "40.7128"
+    )
+    private Double latitude;
+
+    @Schema(
+            description = "Longitude of the restaurant in degrees",
+            example = "-74.0060"
+    )
+    private Double longitude;
+
+    @Schema(
+            description = "Great-circle distance from the requested point in meters",
+            example = "845.3"
+    )
+    private double distance;
+}
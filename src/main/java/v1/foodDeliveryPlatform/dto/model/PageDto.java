@@ -0,0 +1,44 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Page of results")
+public class PageDto<T> {
+
+    @Schema(description = "Items on the current page")
+    private List<T> content;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Total number of matching items", example = "137")
+    private long totalElements;
+
+    @Schema(description = "Total number of pages", example = "7")
+    private int totalPages;
+
+    public static <E, T> PageDto<T> of(Page<E> page, Function<E, T> mapper) {
+        return PageDto.<T>builder()
+                .content(page.getContent().stream().map(mapper).toList())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
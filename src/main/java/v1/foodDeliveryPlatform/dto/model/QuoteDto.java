@@ -0,0 +1,39 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Current prices of the requested dishes")
+public class QuoteDto {
+
+    @Schema(
+            description = "Restaurant the dishes belong to",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID restaurantId;
+
+    @Schema(description = "One line per requested item, in request order")
+    private List<QuoteLineDto> lines;
+
+    @Schema(description = "Sum of all line totals", example = "47.97")
+    private BigDecimal total;
+
+    @Schema(
+            description = "Token that changes whenever any quoted dish changes, also returned as the ETag; "
+                    + "a quote can be reused as long as a new quote returns the same token",
+            example = "9f86d081884c7d659a2feaa0c55ad015"
+    )
+    private String priceVersion;
+}
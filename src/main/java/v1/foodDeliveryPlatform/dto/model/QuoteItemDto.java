@@ -0,0 +1,34 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dish and quantity to price")
+public class QuoteItemDto {
+
+    @NotNull(message = "Dish id must be not null")
+    @Schema(
+            description = "Dish identifier",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID dishId;
+
+    @NotNull(message = "Quantity must be not null")
+    @Min(value = 1, message = "Quantity must be greater than 0")
+    @Max(value = 999, message = "Quantity must be smaller than 1000")
+    @Schema(description = "Number of portions", example = "2")
+    private Integer quantity;
+}
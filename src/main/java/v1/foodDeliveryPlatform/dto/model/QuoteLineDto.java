@@ -0,0 +1,37 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Priced quote line")
+public class QuoteLineDto {
+
+    @Schema(
+            description = "Dish identifier",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID dishId;
+
+    @Schema(description = "Dish name", example = "Margherita")
+    private String name;
+
+    @Schema(description = "Current price of one portion", example = "15.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "Number of portions", example = "2")
+    private Integer quantity;
+
+    @Schema(description = "Unit price times quantity", example = "31.98")
+    private BigDecimal lineTotal;
+}
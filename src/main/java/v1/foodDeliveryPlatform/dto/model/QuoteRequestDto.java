@@ -0,0 +1,25 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Items to price for checkout")
+public class QuoteRequestDto {
+
+    @NotEmpty(message = "Items must be not empty")
+    @Size(max = 100, message = "At most 100 items can be quoted at once")
+    @Schema(description = "Dishes with quantities")
+    private List<@Valid QuoteItemDto> items;
+}
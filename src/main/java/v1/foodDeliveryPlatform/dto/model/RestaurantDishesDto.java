@@ -0,0 +1,23 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Serialized as the bare dish array; the restaurant version only decides whether the
+ * rendered body may be cached under a version key.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantDishesDto {
+
+    @JsonValue
+    private List<DishDto> dishes;
+
+    private Long restaurantVersion;
+}
@@ -2,6 +2,8 @@ package v1.foodDeliveryPlatform.dto.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -47,8 +49,8 @@ public class RestaurantDto {
     @Length(max = 255, message = "Cuisine must be smaller 255 characters",
             groups = {OnCreate.class, OnUpdate.class})
     @Schema(
-            description = "Type of cuisine served at the restaurant",
-            example = "Italian",
+            description = "Type of cuisine served at the restaurant, either code or display name; stored as the canonical code",
+            example = "ITALIAN",
             maxLength = 255
     )
     private String cuisine;
@@ -64,6 +66,26 @@ public class RestaurantDto {
     )
     private String address;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90",
+            groups = {OnCreate.class, OnUpdate.class})
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90",
+            groups = {OnCreate.class, OnUpdate.class})
+    @Schema(
+            description = "Latitude of the restaurant in degrees (WGS 84)",
+            example = "40.7128"
+    )
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180",
+            groups = {OnCreate.class, OnUpdate.class})
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180",
+            groups = {OnCreate.class, OnUpdate.class})
+    @Schema(
+            description = "Longitude of the restaurant in degrees (WGS 84)",
+            example = "-74.0060"
+    )
+    private Double longitude;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Schema(
             description = "List of dishes available at the restaurant (read only)",
@@ -78,4 +100,12 @@ public class RestaurantDto {
             accessMode = Schema.AccessMode.READ_ONLY
     )
     private List<String> images;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(
+            description = "Current restaurant version, also returned as the ETag; send it back in If-Match for conditional writes (read only)",
+            example = "3",
+            accessMode = Schema.AccessMode.READ_ONLY
+    )
+    private Long version;
 }
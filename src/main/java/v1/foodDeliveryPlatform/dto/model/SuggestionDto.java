@@ -0,0 +1,44 @@
+package v1.foodDeliveryPlatform.dto.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.enums.SuggestionType;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Autocomplete suggestion")
+public class SuggestionDto {
+
+    @Schema(
+            description = "Identifier of the suggested restaurant or dish",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID id;
+
+    @Schema(
+            description = "Restaurant or dish name",
+            example = "Margherita Pizza"
+    )
+    private String name;
+
+    @Schema(
+            description = "Kind of the suggested resource",
+            example = "DISH"
+    )
+    private SuggestionType type;
+
+    @Schema(
+            description = "Restaurant the suggestion belongs to",
+            example = "123e4567-e89b-12d3-a456-426614174000",
+            format = "uuid"
+    )
+    private UUID restaurantId;
+}
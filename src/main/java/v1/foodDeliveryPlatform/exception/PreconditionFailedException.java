@@ -0,0 +1,11 @@
+package v1.foodDeliveryPlatform.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(
+            final String message
+    ) {
+        super(message);
+    }
+
+}
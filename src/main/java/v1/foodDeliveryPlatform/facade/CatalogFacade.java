@@ -0,0 +1,13 @@
+package v1.foodDeliveryPlatform.facade;
+
+import v1.foodDeliveryPlatform.dto.model.CatalogChangesDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CatalogFacade {
+
+    CatalogChangesDto getChanges(long since, Integer limit);
+
+    void exportCatalog(OutputStream out) throws IOException;
+}
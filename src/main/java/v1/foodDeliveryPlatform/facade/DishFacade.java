@@ -2,8 +2,15 @@ package v1.foodDeliveryPlatform.facade;
 
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.DishFilterDto;
+import v1.foodDeliveryPlatform.dto.model.KeysetPageDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDishesDto;
 import v1.foodDeliveryPlatform.dto.model.feign.DishClientDto;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.ResourceState;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,17 +18,25 @@ public interface DishFacade {
 
     DishDto getById(UUID id);
 
+    ResourceState getState(UUID id);
+
     DishDto createDish(DishDto dishDto, UUID restaurantId);
 
-    List<DishDto> getAllByRestaurantId(UUID restaurantId);
+    RestaurantDishesDto getAllByRestaurantId(UUID restaurantId);
+
+    PageDto<DishDto> search(String query, int page, int size);
+
+    KeysetPageDto<DishDto> findAll(DishFilterDto filter);
 
     DishDto updateDish(DishDto dishDto);
 
     void delete(UUID id);
 
-    DishDto uploadImage(UUID id, ModelImageDto image);
+    DishDto uploadImage(UUID id, ModelImageDto image, Long expectedVersion);
 
     boolean existsDish(UUID restaurantId, UUID dishId);
 
     DishClientDto getNameById(UUID id);
+
+    List<DishSummary> getSummaries(Collection<UUID> ids);
 }
@@ -10,13 +10,13 @@ public interface ImageFacade {
 
     List<String> getAllByDishId(UUID dishId);
 
-    DishDto removeImageByDishId(UUID dishId, String image) throws Exception;
+    DishDto removeImageByDishId(UUID dishId, String image, Long expectedVersion) throws Exception;
 
-    DishDto removeAllImagesByDishId(UUID dishId);
+    DishDto removeAllImagesByDishId(UUID dishId, Long expectedVersion);
 
     List<String> getAllByRestaurantId(UUID restaurantId);
 
-    RestaurantDto removeImageByRestaurantId(UUID restaurantId, String image) throws Exception;
+    RestaurantDto removeImageByRestaurantId(UUID restaurantId, String image, Long expectedVersion) throws Exception;
 
-    RestaurantDto removeAllImagesByRestaurantId(UUID restaurantId);
+    RestaurantDto removeAllImagesByRestaurantId(UUID restaurantId, Long expectedVersion);
 }
@@ -1,8 +1,15 @@
 package v1.foodDeliveryPlatform.facade;
 
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
+import v1.foodDeliveryPlatform.dto.model.CuisineCountDto;
+import v1.foodDeliveryPlatform.dto.model.NearbyRestaurantDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteRequestDto;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
 import v1.foodDeliveryPlatform.dto.model.feign.RestaurantClientDto;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.ResourceState;
 
 import java.util.List;
 import java.util.UUID;
@@ -11,6 +18,12 @@ public interface RestaurantFacade {
 
     RestaurantDto getById(UUID id);
 
+    ResourceState getState(UUID id);
+
+    ResourceState getCollectionState();
+
+    MenuSnapshot getMenu(UUID id);
+
     RestaurantDto createRestaurant(RestaurantDto restaurantDto);
 
     List<RestaurantDto> getAllRestaurants();
@@ -21,9 +34,17 @@ public interface RestaurantFacade {
 
     List<RestaurantDto> getAllByCuisine(String cuisine);
 
+    List<CuisineCountDto> getCuisineCounts();
+
+    PageDto<RestaurantDto> search(String query, int page, int size);
+
+    PageDto<NearbyRestaurantDto> findNearby(double latitude, double longitude, double radius, int page, int size);
+
     boolean existsRestaurant(UUID id);
 
     RestaurantClientDto getNameById(UUID id);
 
-    RestaurantDto uploadImage(UUID id, ModelImageDto image);
+    RestaurantDto uploadImage(UUID id, ModelImageDto image, Long expectedVersion);
+
+    QuoteDto quote(UUID restaurantId, QuoteRequestDto request);
 }
@@ -0,0 +1,10 @@
+package v1.foodDeliveryPlatform.facade;
+
+import v1.foodDeliveryPlatform.dto.model.SuggestionDto;
+
+import java.util.List;
+
+public interface SuggestionFacade {
+
+    List<SuggestionDto> suggest(String prefix, int limit);
+}
@@ -0,0 +1,80 @@
+package v1.foodDeliveryPlatform.facade.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangeDto;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangesDto;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
+import v1.foodDeliveryPlatform.facade.CatalogFacade;
+import v1.foodDeliveryPlatform.mapper.CatalogChangeMapper;
+import v1.foodDeliveryPlatform.mapper.DishMapper;
+import v1.foodDeliveryPlatform.mapper.RestaurantMapper;
+import v1.foodDeliveryPlatform.model.CatalogChange;
+import v1.foodDeliveryPlatform.model.CatalogDelta;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+import v1.foodDeliveryPlatform.service.CatalogChangeService;
+import v1.foodDeliveryPlatform.service.CatalogExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Component
+@AllArgsConstructor
+public class CatalogFacadeImpl implements CatalogFacade {
+
+    private final CatalogChangeService catalogChangeService;
+    private final CatalogChangeMapper mapper;
+    private final RestaurantMapper restaurantMapper;
+    private final DishMapper dishMapper;
+    private final CatalogExportService catalogExportService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CatalogChangesDto getChanges(long since, Integer limit) {
+        CatalogDelta delta = catalogChangeService.getChanges(since, limit);
+        return CatalogChangesDto.builder()
+                .changes(delta.getChanges().stream().map(change -> toDto(change, delta)).toList())
+                .nextSince(delta.getNextSince())
+                .hasMore(delta.isHasMore())
+                .build();
+    }
+
+    @Override
+    public void exportCatalog(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(RestaurantDto.class);
+        try {
+            catalogExportService.exportCatalog(restaurant -> {
+                try {
+                    out.write(writer.writeValueAsBytes(restaurantMapper.toDto(restaurant)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private CatalogChangeDto toDto(CatalogChange change, CatalogDelta delta) {
+        CatalogChangeDto dto = mapper.toDto(change);
+        if (change.getEntityType() == CatalogEntityType.RESTAURANT) {
+            Restaurant restaurant = delta.getRestaurants().get(change.getEntityId());
+            if (restaurant != null) {
+                dto.setRestaurant(restaurantMapper.toDto(restaurant));
+            }
+        } else {
+            Dish dish = delta.getDishes().get(change.getEntityId());
+            if (dish != null) {
+                dto.setDish(dishMapper.toDto(dish));
+            }
+        }
+        dto.setDeleted(dto.getRestaurant() == null && dto.getDish() == null);
+        return dto;
+    }
+}
@@ -4,14 +4,22 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.DishFilterDto;
+import v1.foodDeliveryPlatform.dto.model.KeysetPageDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDishesDto;
 import v1.foodDeliveryPlatform.dto.model.feign.DishClientDto;
 import v1.foodDeliveryPlatform.facade.DishFacade;
 import v1.foodDeliveryPlatform.mapper.DishClientMapper;
+import v1.foodDeliveryPlatform.mapper.DishFilterMapper;
 import v1.foodDeliveryPlatform.mapper.DishMapper;
 import v1.foodDeliveryPlatform.mapper.TaskImageMapper;
-import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.model.RestaurantDishes;
 import v1.foodDeliveryPlatform.service.DishService;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,21 +32,38 @@ public class DishFacadeImpl implements DishFacade {
     private final DishMapper mapper;
     private final TaskImageMapper taskImageMapper;
     private final DishClientMapper dishClientMapper;
+    private final DishFilterMapper dishFilterMapper;
 
     @Override
     public DishDto getById(UUID id) {
         return mapper.toDto(dishService.getById(id));
     }
 
+    @Override
+    public ResourceState getState(UUID id) {
+        return dishService.getState(id);
+    }
+
     @Override
     public DishDto createDish(DishDto dishDto, UUID restaurantId) {
         return mapper.toDto(dishService.createDish(mapper.toEntity(dishDto), restaurantId));
     }
 
     @Override
-    public List<DishDto> getAllByRestaurantId(UUID restaurantId) {
-        List<Dish> dishes = dishService.getAllByRestaurantId(restaurantId);
-        return dishes.stream().map(mapper::toDto).collect(Collectors.toList());
+    public RestaurantDishesDto getAllByRestaurantId(UUID restaurantId) {
+        RestaurantDishes dishes = dishService.getAllByRestaurantId(restaurantId);
+        return new RestaurantDishesDto(dishes.getDishes().stream().map(mapper::toDto).collect(Collectors.toList()),
+                dishes.getRestaurantVersion());
+    }
+
+    @Override
+    public PageDto<DishDto> search(String query, int page, int size) {
+        return PageDto.of(dishService.search(query, page, size), mapper::toDto);
+    }
+
+    @Override
+    public KeysetPageDto<DishDto> findAll(DishFilterDto filter) {
+        return KeysetPageDto.of(dishService.findAll(dishFilterMapper.toEntity(filter)), mapper::toDto);
     }
 
     @Override
@@ -52,8 +77,8 @@ public class DishFacadeImpl implements DishFacade {
     }
 
     @Override
-    public DishDto uploadImage(UUID id, ModelImageDto image) {
-        return mapper.toDto(dishService.uploadImage(id, taskImageMapper.toEntity(image)));
+    public DishDto uploadImage(UUID id, ModelImageDto image, Long expectedVersion) {
+        return mapper.toDto(dishService.uploadImage(id, taskImageMapper.toEntity(image), expectedVersion));
     }
 
     @Override
@@ -65,4 +90,9 @@ public class DishFacadeImpl implements DishFacade {
     public DishClientDto getNameById(UUID id) {
         return dishClientMapper.toDto(dishService.getNameById(id));
     }
+
+    @Override
+    public List<DishSummary> getSummaries(Collection<UUID> ids) {
+        return dishService.getSummaries(ids);
+    }
 }
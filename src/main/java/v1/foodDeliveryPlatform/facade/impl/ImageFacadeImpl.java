@@ -27,13 +27,13 @@ public class ImageFacadeImpl implements ImageFacade {
     }
 
     @Override
-    public DishDto removeImageByDishId(UUID dishId, String image) throws Exception {
-        return dishMapper.toDto(imageService.removeImageByDishId(dishId, image));
+    public DishDto removeImageByDishId(UUID dishId, String image, Long expectedVersion) throws Exception {
+        return dishMapper.toDto(imageService.removeImageByDishId(dishId, image, expectedVersion));
     }
 
     @Override
-    public DishDto removeAllImagesByDishId(UUID dishId) {
-        return dishMapper.toDto(imageService.removeAllImagesByDishId(dishId));
+    public DishDto removeAllImagesByDishId(UUID dishId, Long expectedVersion) {
+        return dishMapper.toDto(imageService.removeAllImagesByDishId(dishId, expectedVersion));
     }
 
     @Override
@@ -42,13 +42,13 @@ public class ImageFacadeImpl implements ImageFacade {
     }
 
     @Override
-    public RestaurantDto removeImageByRestaurantId(UUID restaurantId, String image) throws Exception {
-        return restaurantMapper.toDto(imageService.removeImageByRestaurantId(restaurantId, image));
+    public RestaurantDto removeImageByRestaurantId(UUID restaurantId, String image, Long expectedVersion) throws Exception {
+        return restaurantMapper.toDto(imageService.removeImageByRestaurantId(restaurantId, image, expectedVersion));
     }
 
     @Override
-    public RestaurantDto removeAllImagesByRestaurantId(UUID restaurantId) {
-        return restaurantMapper.toDto(imageService.removeAllImagesByRestaurantId(restaurantId));
+    public RestaurantDto removeAllImagesByRestaurantId(UUID restaurantId, Long expectedVersion) {
+        return restaurantMapper.toDto(imageService.removeAllImagesByRestaurantId(restaurantId, expectedVersion));
     }
 
 }
@@ -3,13 +3,25 @@ package v1.foodDeliveryPlatform.facade.impl;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
+import v1.foodDeliveryPlatform.dto.model.CuisineCountDto;
+import v1.foodDeliveryPlatform.dto.model.NearbyRestaurantDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteRequestDto;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
 import v1.foodDeliveryPlatform.dto.model.feign.RestaurantClientDto;
 import v1.foodDeliveryPlatform.facade.RestaurantFacade;
+import v1.foodDeliveryPlatform.mapper.CuisineCountMapper;
+import v1.foodDeliveryPlatform.mapper.NearbyRestaurantMapper;
+import v1.foodDeliveryPlatform.mapper.QuoteMapper;
 import v1.foodDeliveryPlatform.mapper.RestaurantClientMapper;
 import v1.foodDeliveryPlatform.mapper.RestaurantMapper;
 import v1.foodDeliveryPlatform.mapper.TaskImageMapper;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.ResourceState;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.service.MenuSnapshotService;
+import v1.foodDeliveryPlatform.service.QuoteService;
 import v1.foodDeliveryPlatform.service.RestaurantService;
 
 import java.util.List;
@@ -24,12 +36,32 @@ public class RestaurantFacadeImpl implements RestaurantFacade {
     private final RestaurantMapper mapper;
     private final RestaurantClientMapper restaurantClientMapper;
     private final TaskImageMapper taskImageMapper;
+    private final CuisineCountMapper cuisineCountMapper;
+    private final NearbyRestaurantMapper nearbyRestaurantMapper;
+    private final MenuSnapshotService menuSnapshotService;
+    private final QuoteService quoteService;
+    private final QuoteMapper quoteMapper;
 
     @Override
     public RestaurantDto getById(UUID id) {
         return mapper.toDto(restaurantService.getById(id));
     }
 
+    @Override
+    public ResourceState getState(UUID id) {
+        return restaurantService.getState(id);
+    }
+
+    @Override
+    public ResourceState getCollectionState() {
+        return restaurantService.getCollectionState();
+    }
+
+    @Override
+    public MenuSnapshot getMenu(UUID id) {
+        return menuSnapshotService.getMenu(id);
+    }
+
     @Override
     public RestaurantDto createRestaurant(RestaurantDto restaurantDto) {
         return mapper.toDto(restaurantService.createRestaurant(mapper.toEntity(restaurantDto)));
@@ -57,6 +89,24 @@ public class RestaurantFacadeImpl implements RestaurantFacade {
         return restaurants.stream().map(mapper::toDto).collect(Collectors.toList());
     }
 
+    @Override
+    public List<CuisineCountDto> getCuisineCounts() {
+        return restaurantService.getCuisineCounts().stream()
+                .map(cuisineCountMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public PageDto<RestaurantDto> search(String query, int page, int size) {
+        return PageDto.of(restaurantService.search(query, page, size), mapper::toDto);
+    }
+
+    @Override
+    public PageDto<NearbyRestaurantDto> findNearby(double latitude, double longitude, double radius, int page, int size) {
+        return PageDto.of(restaurantService.findNearby(latitude, longitude, radius, page, size),
+                nearbyRestaurantMapper::toDto);
+    }
+
     @Override
     public boolean existsRestaurant(UUID id) {
         return restaurantService.existsRestaurant(id);
@@ -68,7 +118,12 @@ public class RestaurantFacadeImpl implements RestaurantFacade {
     }
 
     @Override
-    public RestaurantDto uploadImage(UUID id, ModelImageDto image) {
-        return mapper.toDto(restaurantService.uploadImage(id, taskImageMapper.toEntity(image)));
+    public RestaurantDto uploadImage(UUID id, ModelImageDto image, Long expectedVersion) {
+        return mapper.toDto(restaurantService.uploadImage(id, taskImageMapper.toEntity(image), expectedVersion));
+    }
+
+    @Override
+    public QuoteDto quote(UUID restaurantId, QuoteRequestDto request) {
+        return quoteMapper.toDto(quoteService.quote(restaurantId, quoteMapper.toItems(request.getItems())));
     }
 }
@@ -0,0 +1,26 @@
+package v1.foodDeliveryPlatform.facade.impl;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.dto.model.SuggestionDto;
+import v1.foodDeliveryPlatform.facade.SuggestionFacade;
+import v1.foodDeliveryPlatform.mapper.SuggestionMapper;
+import v1.foodDeliveryPlatform.service.AutocompleteService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class SuggestionFacadeImpl implements SuggestionFacade {
+
+    private final AutocompleteService autocompleteService;
+    private final SuggestionMapper mapper;
+
+    @Override
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        return autocompleteService.suggest(prefix, limit).stream()
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+package v1.foodDeliveryPlatform.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.facade.DishFacade;
+import v1.foodDeliveryPlatform.facade.RestaurantFacade;
+import v1.foodDeliveryPlatform.grpc.api.CatalogLookupGrpc;
+import v1.foodDeliveryPlatform.grpc.api.DishInfo;
+import v1.foodDeliveryPlatform.grpc.api.DishLookupReply;
+import v1.foodDeliveryPlatform.grpc.api.DishLookupRequest;
+import v1.foodDeliveryPlatform.grpc.api.PriceCheck;
+import v1.foodDeliveryPlatform.grpc.api.PriceMismatch;
+import v1.foodDeliveryPlatform.grpc.api.PriceValidationReply;
+import v1.foodDeliveryPlatform.grpc.api.PriceValidationRequest;
+import v1.foodDeliveryPlatform.grpc.api.RestaurantLookupReply;
+import v1.foodDeliveryPlatform.grpc.api.RestaurantLookupRequest;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.props.GrpcProperties;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+@Slf4j
+public class CatalogLookupGrpcService extends CatalogLookupGrpc.CatalogLookupImplBase {
+
+    private final RestaurantFacade restaurantFacade;
+    private final DishFacade dishFacade;
+    private final GrpcProperties grpcProperties;
+
+    @Override
+    public void lookupRestaurant(RestaurantLookupRequest request,
+                                 StreamObserver<RestaurantLookupReply> responseObserver) {
+        respond(responseObserver, () -> {
+            UUID id = UuidBytes.toUuid(request.getRestaurantId());
+            try {
+                return RestaurantLookupReply.newBuilder()
+                        .setFound(true)
+                        .setName(restaurantFacade.getNameById(id).getRestaurantName())
+                        .build();
+            } catch (ResourceNotFoundException e) {
+                return RestaurantLookupReply.newBuilder().setFound(false).build();
+            }
+        });
+    }
+
+    @Override
+    public void lookupDishes(DishLookupRequest request, StreamObserver<DishLookupReply> responseObserver) {
+        respond(responseObserver, () -> {
+            Set<UUID> ids = toIds(request.getDishIdsList().stream().map(UuidBytes::toUuid).toList());
+            DishLookupReply.Builder reply = DishLookupReply.newBuilder();
+            dishFacade.getSummaries(ids).forEach(dish -> reply.addDishes(DishInfo.newBuilder()
+                    .setId(UuidBytes.of(dish.getId()))
+                    .setRestaurantId(UuidBytes.of(dish.getRestaurantId()))
+                    .setName(dish.getName())
+                    .setPriceMinor(dish.getPriceMinor())
+                    .setVersion(dish.getVersion())
+                    .build()));
+            return reply.build();
+        });
+    }
+
+    @Override
+    public void validatePrices(PriceValidationRequest request,
+                               StreamObserver<PriceValidationReply> responseObserver) {
+        respond(responseObserver, () -> {
+            UUID restaurantId = UuidBytes.toUuid(request.getRestaurantId());
+            List<PriceCheck> items = request.getItemsList();
+            Set<UUID> ids = toIds(items.stream().map(item -> UuidBytes.toUuid(item.getDishId())).toList());
+            Map<UUID, DishSummary> dishes = dishFacade.getSummaries(ids).stream()
+                    .collect(Collectors.toMap(DishSummary::getId, Function.identity()));
+
+            PriceValidationReply.Builder reply = PriceValidationReply.newBuilder();
+            for (PriceCheck item : items) {
+                DishSummary dish = dishes.get(UuidBytes.toUuid(item.getDishId()));
+                if (dish == null || !dish.getRestaurantId().equals(restaurantId)) {
+                    reply.addMismatches(PriceMismatch.newBuilder()
+                            .setDishId(item.getDishId())
+                            .setFound(false)
+                            .build());
+                } else if (dish.getPriceMinor() != item.getPriceMinor()) {
+                    reply.addMismatches(PriceMismatch.newBuilder()
+                            .setDishId(item.getDishId())
+                            .setFound(true)
+                            .setCurrentPriceMinor(dish.getPriceMinor())
+                            .build());
+                }
+            }
+            return reply.setValid(reply.getMismatchesCount() == 0).build();
+        });
+    }
+
+    private Set<UUID> toIds(List<UUID> ids) {
+        if (ids.size() > grpcProperties.getMaxBatchSize()) {
+            throw new IllegalArgumentException("At most " + grpcProperties.getMaxBatchSize() + " dishes per call");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    private <T> void respond(StreamObserver<T> responseObserver, Supplier<T> reply) {
+        try {
+            responseObserver.onNext(reply.get());
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+        } catch (RuntimeException e) {
+            log.error("gRPC call failed", e);
+            responseObserver.onError(Status.INTERNAL.withDescription("Internal error").asRuntimeException());
+        }
+    }
+}
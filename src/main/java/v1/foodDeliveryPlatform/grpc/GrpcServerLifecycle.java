@@ -0,0 +1,70 @@
+package v1.foodDeliveryPlatform.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.props.GrpcProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server on its own port next to the servlet container. Connections are
+ * HTTP/2 and long-lived, so callers multiplex lookups instead of opening one request each.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcProperties grpcProperties;
+    private final CatalogLookupGrpcService catalogLookupService;
+    private final JwtServerInterceptor jwtServerInterceptor;
+
+    private volatile Server server;
+
+    @Override
+    public void start() {
+        server = NettyServerBuilder.forPort(grpcProperties.getPort())
+                .addService(ServerInterceptors.intercept(catalogLookupService, jwtServerInterceptor))
+                .permitKeepAliveTime(grpcProperties.getPermitKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                .build();
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + grpcProperties.getPort(), e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(grpcProperties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+}
@@ -0,0 +1,54 @@
+package v1.foodDeliveryPlatform.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates every call with the bearer token from the {@code authorization} metadata,
+ * using the same decoder as the HTTP resource server.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    static final Context.Key<Jwt> JWT = Context.key("jwt");
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Bearer token required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        try {
+            Jwt jwt = jwtDecoder.decode(authorization.substring(BEARER_PREFIX.length()).trim());
+            return Contexts.interceptCall(Context.current().withValue(JWT, jwt), call, headers, next);
+        } catch (JwtException e) {
+            log.debug("Rejected gRPC call {}: {}", call.getMethodDescriptor().getFullMethodName(), e.getMessage());
+            call.close(Status.UNAUTHENTICATED.withDescription("Invalid JWT token"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package v1.foodDeliveryPlatform.grpc;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    static ByteString of(UUID id) {
+        return ByteString.copyFrom(ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    static UUID toUuid(ByteString bytes) {
+        if (bytes.size() != 16) {
+            throw new IllegalArgumentException("Identifier must be 16 bytes");
+        }
+        ByteBuffer buffer = bytes.asReadOnlyByteBuffer();
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,14 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangeDto;
+import v1.foodDeliveryPlatform.model.CatalogChange;
+
+@Mapper(componentModel = "spring")
+public interface CatalogChangeMapper {
+
+    @Mapping(target = "restaurant", ignore = true)
+    @Mapping(target = "dish", ignore = true)
+    CatalogChangeDto toDto(CatalogChange change);
+}
@@ -0,0 +1,9 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import v1.foodDeliveryPlatform.dto.model.CuisineCountDto;
+import v1.foodDeliveryPlatform.model.CuisineCount;
+
+@Mapper(componentModel = "spring")
+public interface CuisineCountMapper extends BaseMapper<CuisineCount, CuisineCountDto> {
+}
@@ -0,0 +1,9 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import v1.foodDeliveryPlatform.dto.model.DishFilterDto;
+import v1.foodDeliveryPlatform.model.DishFilter;
+
+@Mapper(componentModel = "spring")
+public interface DishFilterMapper extends BaseMapper<DishFilter, DishFilterDto> {
+}
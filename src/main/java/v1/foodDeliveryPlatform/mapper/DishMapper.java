@@ -1,11 +1,16 @@
 package v1.foodDeliveryPlatform.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
 import v1.foodDeliveryPlatform.model.Dish;
 
-@Mapper(componentModel = "spring", uses = {RestaurantMapper.class})
+@Mapper(componentModel = "spring", uses = {RestaurantMapper.class, ImageMapper.class})
 public interface DishMapper extends BaseMapper<Dish, DishDto> {
 
+    @Override
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "restaurant", ignore = true)
+    Dish toEntity(DishDto dishDto);
 }
-
@@ -0,0 +1,17 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+
+@Mapper(componentModel = "spring")
+public interface ImageMapper {
+
+    default String toName(DishImage image) {
+        return image.getName();
+    }
+
+    default String toName(RestaurantImage image) {
+        return image.getName();
+    }
+}
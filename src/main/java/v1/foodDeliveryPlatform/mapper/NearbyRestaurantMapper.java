@@ -0,0 +1,9 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import v1.foodDeliveryPlatform.dto.model.NearbyRestaurantDto;
+import v1.foodDeliveryPlatform.model.NearbyRestaurant;
+
+@Mapper(componentModel = "spring")
+public interface NearbyRestaurantMapper extends BaseMapper<NearbyRestaurant, NearbyRestaurantDto> {
+}
@@ -0,0 +1,31 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import v1.foodDeliveryPlatform.dto.model.QuoteDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteItemDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteLineDto;
+import v1.foodDeliveryPlatform.model.Money;
+import v1.foodDeliveryPlatform.model.Quote;
+import v1.foodDeliveryPlatform.model.QuoteItem;
+import v1.foodDeliveryPlatform.model.QuoteLine;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface QuoteMapper {
+
+    @Mapping(target = "total", source = "totalMinor")
+    QuoteDto toDto(Quote quote);
+
+    @Mapping(target = "unitPrice", source = "unitPriceMinor")
+    @Mapping(target = "lineTotal", source = "lineTotalMinor")
+    QuoteLineDto toDto(QuoteLine line);
+
+    List<QuoteItem> toItems(List<QuoteItemDto> items);
+
+    default BigDecimal toDecimal(long minor) {
+        return Money.toDecimal(minor);
+    }
+}
@@ -2,10 +2,12 @@ package v1.foodDeliveryPlatform.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import v1.foodDeliveryPlatform.dto.model.DishDto;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
+import v1.foodDeliveryPlatform.model.Dish;
 import v1.foodDeliveryPlatform.model.Restaurant;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ImageMapper.class)
 public interface RestaurantMapper extends BaseMapper<Restaurant, RestaurantDto> {
     @Override
     @Mapping(target = "dishDtoList", source = "dishes")
@@ -13,5 +15,13 @@ public interface RestaurantMapper extends BaseMapper<Restaurant, RestaurantDto>
 
     @Override
     @Mapping(target = "dishes", source = "dishDtoList")
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "geohash", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Restaurant toEntity(RestaurantDto restaurantDto);
+
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "restaurant", ignore = true)
+    Dish toDish(DishDto dishDto);
 }
@@ -0,0 +1,9 @@
+package v1.foodDeliveryPlatform.mapper;
+
+import org.mapstruct.Mapper;
+import v1.foodDeliveryPlatform.dto.model.SuggestionDto;
+import v1.foodDeliveryPlatform.model.Suggestion;
+
+@Mapper(componentModel = "spring")
+public interface SuggestionMapper extends BaseMapper<Suggestion, SuggestionDto> {
+}
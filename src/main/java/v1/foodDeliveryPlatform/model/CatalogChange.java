@@ -0,0 +1,48 @@
+package v1.foodDeliveryPlatform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Row written by database triggers whenever a restaurant, a dish or one of their images
+ * changes. {@code seq} stays empty until the sequencer publishes the row.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "catalog_change")
+public class CatalogChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "seq")
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private CatalogEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "restaurant_id")
+    private UUID restaurantId;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,23 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogDelta {
+
+    private List<CatalogChange> changes;
+    private Map<UUID, Restaurant> restaurants;
+    private Map<UUID, Dish> dishes;
+    private long nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CuisineCount implements Serializable {
+
+    private String cuisine;
+    private String name;
+    private long count;
+
+    public CuisineCount(String cuisine, Long count) {
+        this.cuisine = cuisine;
+        this.count = count;
+    }
+}
@@ -5,9 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,12 +35,20 @@ public class Dish implements Serializable {
     @Column(name = "price", nullable = false)
     private BigDecimal price;
 
-    @Column(name = "image")
-    @CollectionTable(name = "dish_images", joinColumns = @JoinColumn(name = "dish_id"))
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<String> images;
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "dish_id", insertable = false, updatable = false)
+    @OrderBy("position")
+    private List<DishImage> images;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurant_id")
     private Restaurant restaurant;
 
@@ -0,0 +1,25 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.enums.DishSort;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DishFilter {
+
+    private UUID restaurantId;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private String name;
+    private DishSort sort;
+    private String cursor;
+    private Integer size;
+}
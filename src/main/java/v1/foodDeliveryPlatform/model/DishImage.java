@@ -0,0 +1,49 @@
+package v1.foodDeliveryPlatform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "dish_images")
+@IdClass(DishImage.Key.class)
+public class DishImage implements Serializable {
+
+    @Id
+    @Column(name = "dish_id", nullable = false)
+    private UUID dishId;
+
+    @Id
+    @Column(name = "image", nullable = false)
+    private String name;
+
+    @Column(name = "position", nullable = false)
+    private int position;
+
+    @Embedded
+    private ImageMetadata metadata;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID dishId;
+        private String name;
+    }
+}
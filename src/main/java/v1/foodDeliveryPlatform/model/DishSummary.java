@@ -0,0 +1,29 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Fields other services need to check a dish, read without loading images.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DishSummary {
+
+    private UUID id;
+    private UUID restaurantId;
+    private String name;
+    private long priceMinor;
+    private Long version;
+
+    public DishSummary(UUID id, UUID restaurantId, String name, BigDecimal price, Long version) {
+        this(id, restaurantId, name, Money.toMinor(price), version);
+    }
+}
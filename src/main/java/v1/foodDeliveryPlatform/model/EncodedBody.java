@@ -0,0 +1,7 @@
+package v1.foodDeliveryPlatform.model;
+
+/**
+ * Response payload ready to be written as is, either plain or gzip-compressed.
+ */
+public record EncodedBody(byte[] content, boolean gzipped) {
+}
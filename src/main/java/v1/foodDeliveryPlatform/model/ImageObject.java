@@ -0,0 +1,20 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageObject {
+
+    private String name;
+    private String etag;
+    private long size;
+    private Instant lastModified;
+}
@@ -0,0 +1,38 @@
+package v1.foodDeliveryPlatform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Restaurant with its dishes and images, serialized once per restaurant version.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "restaurant_menu_snapshot")
+public class MenuSnapshot {
+
+    @Id
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "document", nullable = false)
+    private byte[] document;
+
+    @Column(name = "generated_at", nullable = false)
+    private Instant generatedAt;
+}
@@ -0,0 +1,24 @@
+package v1.foodDeliveryPlatform.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amounts are handled internally as longs of minor units (cents); decimals only appear
+ * in entities mapped to {@code numeric(8,2)} and at the API edge.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
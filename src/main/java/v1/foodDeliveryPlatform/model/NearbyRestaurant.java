@@ -0,0 +1,23 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyRestaurant {
+
+    private UUID id;
+    private String name;
+    private String cuisine;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private double distance;
+}
@@ -0,0 +1,25 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Prices of a set of dishes at one point in time. {@code priceVersion} changes whenever
+ * any of the quoted dishes changes, so equal tokens mean equal prices.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Quote {
+
+    private UUID restaurantId;
+    private List<QuoteLine> lines;
+    private long totalMinor;
+    private String priceVersion;
+}
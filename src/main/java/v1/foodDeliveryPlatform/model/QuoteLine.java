@@ -0,0 +1,21 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuoteLine {
+
+    private UUID dishId;
+    private String name;
+    private long unitPriceMinor;
+    private Integer quantity;
+    private long lineTotalMinor;
+}
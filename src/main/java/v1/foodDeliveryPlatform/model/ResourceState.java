@@ -0,0 +1,29 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Validators of a resource or a set of resources, read without loading the entities.
+ * For a set, {@code version} is the sum of row versions.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResourceState {
+
+    private Long count;
+    private Long version;
+    private Instant lastModified;
+
+    public ResourceState(Long version, Instant lastModified) {
+        this.count = 1L;
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+}
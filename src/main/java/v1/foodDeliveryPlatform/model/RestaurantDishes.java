@@ -0,0 +1,19 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dishes of a restaurant together with the restaurant version they were read at.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestaurantDishes {
+
+    private List<Dish> dishes;
+    private Long restaurantVersion;
+}
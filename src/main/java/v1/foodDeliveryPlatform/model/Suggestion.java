@@ -0,0 +1,21 @@
+package v1.foodDeliveryPlatform.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import v1.foodDeliveryPlatform.model.enums.SuggestionType;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Suggestion {
+
+    private UUID id;
+    private String name;
+    private SuggestionType type;
+    private UUID restaurantId;
+}
@@ -0,0 +1,6 @@
+package v1.foodDeliveryPlatform.model.enums;
+
+public enum CatalogEntityType {
+    RESTAURANT,
+    DISH
+}
@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Getter
@@ -26,17 +27,22 @@ public enum Cuisine {
         this.name = name;
     }
 
-    public static boolean isValidCuisine(String cuisineName) {
-        if (cuisineName == null || cuisineName.trim().isEmpty()) {
-            return false;
+    public static Optional<Cuisine> fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Optional.empty();
         }
+        String trimmed = value.trim();
         for (Cuisine cuisine : values()) {
-            if (cuisine.name().equalsIgnoreCase(cuisineName) ||
-                    cuisine.getName().equalsIgnoreCase(cuisineName)) {
-                return true;
+            if (cuisine.name().equalsIgnoreCase(trimmed) ||
+                    cuisine.getName().equalsIgnoreCase(trimmed)) {
+                return Optional.of(cuisine);
             }
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public static boolean isValidCuisine(String cuisineName) {
+        return fromValue(cuisineName).isPresent();
     }
 
     public static List<String> getNames() {
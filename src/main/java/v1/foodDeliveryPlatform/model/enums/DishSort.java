@@ -0,0 +1,7 @@
+package v1.foodDeliveryPlatform.model.enums;
+
+public enum DishSort {
+    PRICE_ASC,
+    PRICE_DESC,
+    NAME_ASC
+}
@@ -0,0 +1,5 @@
+package v1.foodDeliveryPlatform.model.enums;
+
+public enum OutboxEventType {
+    DELETE_IMAGE
+}
@@ -0,0 +1,6 @@
+package v1.foodDeliveryPlatform.model.event;
+
+import java.util.UUID;
+
+public record MenuChangedEvent(UUID restaurantId) {
+}
@@ -0,0 +1,16 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "catalog-changes")
+public class CatalogChangeProperties {
+
+    private int defaultPageSize = 100;
+    private int maxPageSize = 1000;
+    private int publishBatchSize = 1000;
+
+}
@@ -0,0 +1,21 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "catalog-export")
+public class CatalogExportProperties {
+
+    private int fetchSize = 500;
+    /**
+     * Each running export holds a pooled connection for the whole download.
+     */
+    private int maxConcurrent = 2;
+    private Duration timeout = Duration.ofHours(1);
+
+}
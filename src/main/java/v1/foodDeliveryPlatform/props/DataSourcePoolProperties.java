@@ -0,0 +1,22 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "datasource-pool")
+public class DataSourcePoolProperties {
+
+    /**
+     * Fixed pool size; 0 derives it from the available cores.
+     */
+    private int maxSize = 0;
+    /**
+     * Floor for the derived size.
+     */
+    private int minSize = 20;
+    private int connectionsPerCore = 2;
+
+}
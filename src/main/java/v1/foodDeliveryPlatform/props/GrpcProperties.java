@@ -0,0 +1,20 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "grpc")
+public class GrpcProperties {
+
+    private boolean enabled = true;
+    private int port = 9090;
+    private int maxBatchSize = 500;
+    private Duration permitKeepAliveTime = Duration.ofSeconds(30);
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+
+}
@@ -0,0 +1,20 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "http2")
+public class Http2Properties {
+
+    private int maxConcurrentStreams = 200;
+    private int maxConcurrentStreamExecution = 50;
+    private Duration keepAliveTimeout = Duration.ofSeconds(60);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration streamReadTimeout = Duration.ofSeconds(20);
+
+}
@@ -0,0 +1,21 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "image-gc")
+public class ImageGcProperties {
+
+    private boolean enabled = true;
+    private int pageSize = 500;
+    private int pagesPerRun = 20;
+    private int maxDeletesPerRun = 1000;
+    private Duration gracePeriod = Duration.ofHours(24);
+    private Duration pauseBetweenPages = Duration.ofMillis(200);
+
+}
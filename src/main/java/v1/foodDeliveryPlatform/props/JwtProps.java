@@ -10,4 +10,5 @@ import org.springframework.stereotype.Component;
 public class JwtProps {
 
     private String secret;
+    private int cacheSize = 10_000;
 }
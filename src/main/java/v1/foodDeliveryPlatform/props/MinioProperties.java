@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Data
 @ConfigurationProperties(prefix = "minio")
@@ -13,5 +15,18 @@ public class MinioProperties {
     private String endpoint;
     private String accessKey;
     private String secretKey;
+    private Http http = new Http();
+
+    @Data
+    public static class Http {
+
+        private int maxRequests = 128;
+        private int maxRequestsPerHost = 128;
+        private int maxIdleConnections = 32;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration writeTimeout = Duration.ofSeconds(30);
+    }
 
 }
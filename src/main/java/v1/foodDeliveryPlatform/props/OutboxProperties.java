@@ -0,0 +1,28 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private int batchSize = 100;
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    /**
+     * How long a claimed batch stays hidden from other dispatchers while MinIO is called.
+     */
+    private Duration lease = Duration.ofMinutes(5);
+    /**
+     * How long events that ran out of attempts are kept for inspection; the orphaned-image
+     * collector removes their objects from the bucket.
+     */
+    private Duration deadLetterRetention = Duration.ofDays(7);
+
+}
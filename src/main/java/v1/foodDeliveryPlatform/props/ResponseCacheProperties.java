@@ -0,0 +1,19 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofHours(1);
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+
+}
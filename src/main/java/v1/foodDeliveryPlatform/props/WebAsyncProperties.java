@@ -0,0 +1,26 @@
+package v1.foodDeliveryPlatform.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "web-async")
+public class WebAsyncProperties {
+
+    /**
+     * Platform threads for async responses; 0 matches the Tomcat worker pool. Unused with
+     * virtual threads.
+     */
+    private int poolSize = 0;
+    private int queueCapacity = 100;
+    /**
+     * Total time an async response may take; 0 disables it. Streams are still cut off when a
+     * client stops reading, because Tomcat applies its connection timeout to every blocking write.
+     */
+    private Duration requestTimeout = Duration.ZERO;
+
+}
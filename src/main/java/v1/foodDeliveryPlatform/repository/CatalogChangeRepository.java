@@ -0,0 +1,40 @@
+package v1.foodDeliveryPlatform.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import v1.foodDeliveryPlatform.model.CatalogChange;
+
+import java.util.List;
+
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    @Query(value = """
+            SELECT * FROM catalog_change
+            WHERE seq > :since
+            ORDER BY seq
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CatalogChange> findPublishedAfter(@Param("since") long since, @Param("limit") int limit);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(@Param("key") long key);
+
+    @Modifying
+    @Query(value = """
+            UPDATE catalog_change c SET seq = pending.seq
+            FROM (
+                SELECT id, (SELECT COALESCE(MAX(seq), 0) FROM catalog_change)
+                           + row_number() OVER (ORDER BY id) AS seq
+                FROM catalog_change
+                WHERE seq IS NULL
+                ORDER BY id
+                LIMIT :limit
+            ) pending
+            WHERE c.id = pending.id
+            """, nativeQuery = true)
+    int publishPending(@Param("limit") int limit);
+}
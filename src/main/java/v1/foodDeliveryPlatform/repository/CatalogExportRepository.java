@@ -0,0 +1,107 @@
+package v1.foodDeliveryPlatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Walks the whole catalog with a server-side cursor. Restaurants are built from plain rows
+ * and handed over one by one, so neither the persistence context nor the heap grows
+ * with the catalog.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogExportRepository {
+
+    private static final String CATALOG_QUERY = """
+            SELECT r.id AS restaurant_id, r.name AS restaurant_name, r.cuisine, r.address,
+                   r.latitude, r.longitude, r.version AS restaurant_version,
+                   ARRAY(SELECT ri.image FROM restaurant_images ri WHERE ri.restaurant_id = r.id ORDER BY ri.position) AS restaurant_images,
+                   d.id AS dish_id, d.name AS dish_name, d.description, d.price, d.version AS dish_version,
+                   ARRAY(SELECT di.image FROM dish_images di WHERE di.dish_id = d.id ORDER BY di.position) AS dish_images
+            FROM restaurant r
+            LEFT JOIN dish d ON d.restaurant_id = r.id
+            ORDER BY r.id, d.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Must run inside a transaction, otherwise the PostgreSQL driver ignores the fetch size
+     * and reads the whole result into memory.
+     */
+    public void forEachRestaurant(int fetchSize, Consumer<Restaurant> consumer) {
+        Restaurant[] current = new Restaurant[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(CATALOG_QUERY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            UUID restaurantId = rs.getObject("restaurant_id", UUID.class);
+            if (current[0] == null || !current[0].getId().equals(restaurantId)) {
+                if (current[0] != null) {
+                    consumer.accept(current[0]);
+                }
+                current[0] = mapRestaurant(rs, restaurantId);
+            }
+            UUID dishId = rs.getObject("dish_id", UUID.class);
+            if (dishId != null) {
+                current[0].getDishes().add(mapDish(rs, dishId));
+            }
+        });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+
+    private Restaurant mapRestaurant(ResultSet rs, UUID id) throws SQLException {
+        return Restaurant.builder()
+                .id(id)
+                .name(rs.getString("restaurant_name"))
+                .cuisine(rs.getString("cuisine"))
+                .address(rs.getString("address"))
+                .latitude(rs.getObject("latitude", Double.class))
+                .longitude(rs.getObject("longitude", Double.class))
+                .version(rs.getLong("restaurant_version"))
+                .images(strings(rs.getArray("restaurant_images")).stream()
+                        .map(name -> RestaurantImage.builder().restaurantId(id).name(name).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .dishes(new ArrayList<>())
+                .build();
+    }
+
+    private Dish mapDish(ResultSet rs, UUID id) throws SQLException {
+        return Dish.builder()
+                .id(id)
+                .name(rs.getString("dish_name"))
+                .description(rs.getString("description"))
+                .price(rs.getBigDecimal("price"))
+                .version(rs.getLong("dish_version"))
+                .images(strings(rs.getArray("dish_images")).stream()
+                        .map(name -> DishImage.builder().dishId(id).name(name).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+
+    private List<String> strings(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
@@ -1,21 +1,60 @@
 package v1.foodDeliveryPlatform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.repository.projection.NameView;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface DishRepository extends JpaRepository<Dish, UUID> {
+public interface DishRepository extends JpaRepository<Dish, UUID>, JpaSpecificationExecutor<Dish> {
 
     @Query(value = "SELECT * FROM dish WHERE restaurant_id = :restaurantId", nativeQuery = true)
     List<Dish> findAllByRestaurantId(@Param("restaurantId") UUID restaurantId);
 
+    @Query(value = """
+            SELECT d.* FROM dish d
+            WHERE d.search_vector @@ websearch_to_tsquery('simple', :query)
+               OR :query <% d.name
+            ORDER BY ts_rank_cd(d.search_vector, websearch_to_tsquery('simple', :query))
+                   + word_similarity(:query, d.name) DESC, d.id
+            """,
+            countQuery = """
+                    SELECT COUNT(*) FROM dish d
+                    WHERE d.search_vector @@ websearch_to_tsquery('simple', :query)
+                       OR :query <% d.name
+                    """,
+            nativeQuery = true)
+    Page<Dish> search(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT new v1.foodDeliveryPlatform.model.ResourceState(d.version, d.updatedAt) " +
+            "FROM Dish d WHERE d.id = :id")
+    Optional<ResourceState> findStateById(@Param("id") UUID id);
+
+    @Query("SELECT new v1.foodDeliveryPlatform.model.DishSummary(d.id, d.restaurant.id, d.name, d.price, d.version) " +
+            "FROM Dish d WHERE d.id IN :ids")
+    List<DishSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new v1.foodDeliveryPlatform.model.DishSummary(d.id, d.restaurant.id, d.name, d.price, d.version) " +
+            "FROM Dish d WHERE d.restaurant.id = :restaurantId AND d.id IN :ids")
+    List<DishSummary> findSummariesByRestaurantIdAndIdIn(@Param("restaurantId") UUID restaurantId,
+                                                         @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT d.id AS id, d.name AS name, d.restaurant.id AS restaurantId FROM Dish d")
+    List<NameView> findAllNames();
+
     @Modifying
     @Query(value = "DELETE FROM dish WHERE id = :id", nativeQuery = true)
     void deleteDirectlyById(@Param("id") UUID id);
@@ -0,0 +1,42 @@
+package v1.foodDeliveryPlatform.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MenuSnapshotRepository extends JpaRepository<MenuSnapshot, UUID> {
+
+    @Query(value = """
+            SELECT s.* FROM restaurant_menu_snapshot s
+            JOIN restaurant r ON r.id = s.restaurant_id AND r.version = s.version
+            WHERE s.restaurant_id = :restaurantId
+            """, nativeQuery = true)
+    Optional<MenuSnapshot> findCurrent(@Param("restaurantId") UUID restaurantId);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('menu_snapshot'), hashtext(CAST(:restaurantId AS text)))",
+            nativeQuery = true)
+    boolean tryLock(@Param("restaurantId") UUID restaurantId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO restaurant_menu_snapshot (restaurant_id, version, updated_at, document, generated_at)
+            VALUES (:restaurantId, :version, :updatedAt, :document, :generatedAt)
+            ON CONFLICT (restaurant_id) DO UPDATE
+            SET version = EXCLUDED.version, updated_at = EXCLUDED.updated_at,
+                document = EXCLUDED.document, generated_at = EXCLUDED.generated_at
+            WHERE restaurant_menu_snapshot.version < EXCLUDED.version
+            """, nativeQuery = true)
+    void upsert(@Param("restaurantId") UUID restaurantId,
+                @Param("version") long version,
+                @Param("updatedAt") Instant updatedAt,
+                @Param("document") byte[] document,
+                @Param("generatedAt") Instant generatedAt);
+}
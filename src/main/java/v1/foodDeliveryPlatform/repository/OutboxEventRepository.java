@@ -0,0 +1,32 @@
+package v1.foodDeliveryPlatform.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import v1.foodDeliveryPlatform.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    @Query(value = """
+            SELECT * FROM outbox_event
+            WHERE available_at <= :now AND attempts < :maxAttempts
+            ORDER BY available_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockDueEvents(@Param("now") Instant now,
+                                    @Param("maxAttempts") int maxAttempts,
+                                    @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE attempts >= :maxAttempts AND available_at < :before",
+            nativeQuery = true)
+    int deleteDead(@Param("maxAttempts") int maxAttempts, @Param("before") Instant before);
+}
@@ -1,21 +1,112 @@
 package v1.foodDeliveryPlatform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import v1.foodDeliveryPlatform.model.CuisineCount;
+import v1.foodDeliveryPlatform.model.ResourceState;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+import v1.foodDeliveryPlatform.repository.projection.NameView;
+import v1.foodDeliveryPlatform.repository.projection.NearbyView;
+import v1.foodDeliveryPlatform.repository.projection.RestaurantView;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
 
-    @Query(value = "SELECT * FROM restaurant WHERE LOWER(cuisine) = LOWER(:cuisine)", nativeQuery = true)
+    @Query(value = "SELECT * FROM restaurant WHERE cuisine = :cuisine", nativeQuery = true)
     List<Restaurant> findAllByCuisine(@Param("cuisine") String cuisine);
 
+    @Query("SELECT new v1.foodDeliveryPlatform.model.CuisineCount(r.cuisine, COUNT(r)) " +
+            "FROM Restaurant r GROUP BY r.cuisine ORDER BY COUNT(r) DESC")
+    List<CuisineCount> countByCuisine();
+
+    @Query(value = """
+            SELECT r.* FROM restaurant r
+            WHERE r.search_vector @@ websearch_to_tsquery('simple', :query)
+               OR :query <% r.name
+            ORDER BY ts_rank_cd(r.search_vector, websearch_to_tsquery('simple', :query))
+                   + word_similarity(:query, r.name) DESC, r.id
+            """,
+            countQuery = """
+                    SELECT COUNT(*) FROM restaurant r
+                    WHERE r.search_vector @@ websearch_to_tsquery('simple', :query)
+                       OR :query <% r.name
+                    """,
+            nativeQuery = true)
+    Page<Restaurant> search(@Param("query") String query, Pageable pageable);
+
+    @Query(value = """
+            SELECT nearby.* FROM (
+                SELECT r.id AS id, r.name AS name, r.cuisine AS cuisine, r.address AS address,
+                       r.latitude AS latitude, r.longitude AS longitude,
+                       2 * 6371000 * asin(sqrt(LEAST(1,
+                           power(sin(radians(r.latitude - :latitude) / 2), 2)
+                           + cos(radians(:latitude)) * cos(radians(r.latitude))
+                             * power(sin(radians(r.longitude - :longitude) / 2), 2)))) AS distance
+                FROM unnest(string_to_array(:cells, ',')) AS cell(prefix)
+                JOIN restaurant r ON r.geohash >= cell.prefix AND r.geohash < cell.prefix || '{'
+            ) nearby
+            WHERE nearby.distance <= :radius
+            ORDER BY nearby.distance, nearby.id
+            """,
+            countQuery = """
+                    SELECT COUNT(*) FROM (
+                        SELECT 2 * 6371000 * asin(sqrt(LEAST(1,
+                                   power(sin(radians(r.latitude - :latitude) / 2), 2)
+                                   + cos(radians(:latitude)) * cos(radians(r.latitude))
+                                     * power(sin(radians(r.longitude - :longitude) / 2), 2)))) AS distance
+                        FROM unnest(string_to_array(:cells, ',')) AS cell(prefix)
+                        JOIN restaurant r ON r.geohash >= cell.prefix AND r.geohash < cell.prefix || '{'
+                    ) nearby
+                    WHERE nearby.distance <= :radius
+                    """,
+            nativeQuery = true)
+    Page<NearbyView> findNearby(@Param("latitude") double latitude,
+                                @Param("longitude") double longitude,
+                                @Param("radius") double radius,
+                                @Param("cells") String cells,
+                                Pageable pageable);
+
+    @Query("SELECT new v1.foodDeliveryPlatform.model.ResourceState(r.version, r.updatedAt) " +
+            "FROM Restaurant r WHERE r.id = :id")
+    Optional<ResourceState> findStateById(@Param("id") UUID id);
+
+    @Query("SELECT new v1.foodDeliveryPlatform.model.ResourceState(COUNT(r), COALESCE(SUM(r.version), 0L), MAX(r.updatedAt)) " +
+            "FROM Restaurant r")
+    ResourceState findCollectionState();
+
+    @Modifying
+    @Query(value = "UPDATE restaurant SET version = version + 1, updated_at = now() WHERE id = :id", nativeQuery = true)
+    void touch(@Param("id") UUID id);
+
+    @Query("SELECT r.id AS id, r.name AS name, r.cuisine AS cuisine, r.address AS address, " +
+            "r.latitude AS latitude, r.longitude AS longitude, r.version AS version " +
+            "FROM Restaurant r WHERE r.id IN :ids")
+    List<RestaurantView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT i FROM RestaurantImage i WHERE i.restaurantId IN :ids ORDER BY i.position")
+    List<RestaurantImage> findImagesByRestaurantIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT r.id AS id, r.name AS name, r.id AS restaurantId FROM Restaurant r")
+    List<NameView> findAllNames();
+
+    @Query(value = """
+            SELECT image FROM restaurant_images WHERE image IN (:images)
+            UNION
+            SELECT image FROM dish_images WHERE image IN (:images)
+            """, nativeQuery = true)
+    List<String> findReferencedImages(@Param("images") Collection<String> images);
+
     @Modifying
     @Query(value = "DELETE FROM restaurant_images WHERE restaurant_id = :restaurantId", nativeQuery = true)
     void deleteImagesByRestaurantId(@Param("restaurantId") UUID restaurantId);
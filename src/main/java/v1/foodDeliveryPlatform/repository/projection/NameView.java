@@ -0,0 +1,12 @@
+package v1.foodDeliveryPlatform.repository.projection;
+
+import java.util.UUID;
+
+public interface NameView {
+
+    UUID getId();
+
+    String getName();
+
+    UUID getRestaurantId();
+}
@@ -0,0 +1,20 @@
+package v1.foodDeliveryPlatform.repository.projection;
+
+import java.util.UUID;
+
+public interface NearbyView {
+
+    UUID getId();
+
+    String getName();
+
+    String getCuisine();
+
+    String getAddress();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Double getDistance();
+}
@@ -0,0 +1,70 @@
+package v1.foodDeliveryPlatform.repository.specification;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import v1.foodDeliveryPlatform.model.Dish;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public final class DishSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private DishSpecifications() {
+    }
+
+    public static Specification<Dish> restaurantIdEquals(UUID restaurantId) {
+        return (root, query, cb) -> restaurantId == null
+                ? null
+                : cb.equal(root.get("restaurant").get("id"), restaurantId);
+    }
+
+    public static Specification<Dish> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> minPrice == null
+                ? null
+                : cb.greaterThanOrEqualTo(root.<BigDecimal>get("price"), minPrice);
+    }
+
+    public static Specification<Dish> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> maxPrice == null
+                ? null
+                : cb.lessThanOrEqualTo(root.<BigDecimal>get("price"), maxPrice);
+    }
+
+    public static Specification<Dish> nameContains(String name) {
+        return (root, query, cb) -> {
+            if (name == null || name.isBlank()) {
+                return null;
+            }
+            String pattern = "%" + escapeLike(name.trim()) + "%";
+            return ((HibernateCriteriaBuilder) cb).ilike(root.get("name"), pattern, LIKE_ESCAPE);
+        };
+    }
+
+    public static <T extends Comparable<? super T>> Specification<Dish> after(
+            String attribute, T value, UUID id, boolean descending) {
+        return (root, query, cb) -> {
+            if (value == null || id == null) {
+                return null;
+            }
+            if (descending) {
+                return cb.or(
+                        cb.lessThan(root.<T>get(attribute), value),
+                        cb.and(cb.equal(root.get(attribute), value), cb.lessThan(root.<UUID>get("id"), id))
+                );
+            }
+            return cb.or(
+                    cb.greaterThan(root.<T>get(attribute), value),
+                    cb.and(cb.equal(root.get(attribute), value), cb.greaterThan(root.<UUID>get("id"), id))
+            );
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -3,6 +3,8 @@ package v1.foodDeliveryPlatform.rest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.validation.FieldError;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import v1.foodDeliveryPlatform.exception.ExceptionBody;
 import v1.foodDeliveryPlatform.exception.ImageUploadException;
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
 import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
 
 import java.util.List;
@@ -29,6 +32,22 @@ public class AdviceController {
         return new ExceptionBody(e.getMessage());
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ExceptionBody handlePreconditionFailed(
+            final PreconditionFailedException e
+    ) {
+        return new ExceptionBody(e.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ExceptionBody handleOptimisticLockingFailure(
+            final ObjectOptimisticLockingFailureException e
+    ) {
+        return new ExceptionBody("Resource has been modified concurrently");
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleIllegalState(
@@ -110,6 +129,14 @@ public class AdviceController {
         return new ExceptionBody(e.getMessage());
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleTaskRejected(
+            final TaskRejectedException e
+    ) {
+        return new ExceptionBody("Server is busy, try again later");
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ExceptionBody handleException(
@@ -0,0 +1,95 @@
+package v1.foodDeliveryPlatform.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangesDto;
+import v1.foodDeliveryPlatform.facade.CatalogFacade;
+import v1.foodDeliveryPlatform.props.CatalogExportProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/v1/catalog")
+@CrossOrigin(
+        origins = "http://localhost:5173",
+        allowedHeaders = "*",
+        methods = {RequestMethod.GET, RequestMethod.OPTIONS},
+        allowCredentials = "true"
+)
+@Tag(
+        name = "Catalog Controller",
+        description = "Incremental catalog synchronization API"
+)
+public class CatalogController {
+
+    private final CatalogFacade catalogFacade;
+    private final CatalogExportProperties catalogExportProperties;
+    private final Semaphore exports;
+
+    public CatalogController(CatalogFacade catalogFacade, CatalogExportProperties catalogExportProperties) {
+        this.catalogFacade = catalogFacade;
+        this.catalogExportProperties = catalogExportProperties;
+        this.exports = new Semaphore(catalogExportProperties.getMaxConcurrent());
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get restaurants and dishes changed after a sequence number")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CatalogChangesDto> getChanges(
+            @RequestParam(defaultValue = "0") final long since,
+            @RequestParam(required = false) final Integer limit) {
+        return new ResponseEntity<>(catalogFacade.getChanges(since, limit), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the whole catalog as newline-delimited JSON, one restaurant with its dishes per line")
+    @PreAuthorize("isAuthenticated()")
+    public WebAsyncTask<Void> exportCatalog(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+            final HttpServletResponse response) {
+        if (!exports.tryAcquire()) {
+            throw new TaskRejectedException("Too many catalog exports in progress");
+        }
+        boolean gzip = ContentCodings.acceptsGzip(acceptEncoding);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                exports.release();
+            }
+        };
+        WebAsyncTask<Void> task = new WebAsyncTask<>(catalogExportProperties.getTimeout().toMillis(), () -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+                    catalogFacade.exportCatalog(compressed);
+                    compressed.finish();
+                } else {
+                    catalogFacade.exportCatalog(response.getOutputStream());
+                }
+                response.flushBuffer();
+                return null;
+            } finally {
+                release.run();
+            }
+        });
+        // The task may never run if the async executor rejects it
+        task.onCompletion(release);
+        return task;
+    }
+}
@@ -1,18 +1,29 @@
 package v1.foodDeliveryPlatform.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.DishFilterDto;
+import v1.foodDeliveryPlatform.dto.model.KeysetPageDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
 import v1.foodDeliveryPlatform.dto.model.feign.DishClientDto;
 import v1.foodDeliveryPlatform.dto.validation.OnUpdate;
 import v1.foodDeliveryPlatform.facade.DishFacade;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.service.ResponseCacheService;
 
 import java.util.UUID;
 
@@ -32,13 +43,38 @@ import java.util.UUID;
 public class DishController {
 
     private final DishFacade dishFacade;
+    private final ResponseCacheService responseCache;
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get dish by id")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = DishDto.class)))
     @PreAuthorize("permitAll()")
-    public ResponseEntity<DishDto> getById(
-            @PathVariable final UUID id) {
-        return new ResponseEntity<>(dishFacade.getById(id), HttpStatus.OK);
+    public ResponseEntity<byte[]> getById(
+            @PathVariable final UUID id,
+            final WebRequest request) {
+        ResourceState state = dishFacade.getState(id);
+        return VersionTags.conditional(request, VersionTags.of(state.getVersion()), state.getLastModified(),
+                gzip -> responseCache.getOrRender("dish:" + id + ":" + state.getVersion(), gzip,
+                        () -> dishFacade.getById(id),
+                        dish -> state.getVersion().equals(dish.getVersion())));
+    }
+
+    @GetMapping
+    @Operation(summary = "Query dishes by restaurant, price range and name")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<KeysetPageDto<DishDto>> findAll(
+            @Validated @ModelAttribute final DishFilterDto filter) {
+        return new ResponseEntity<>(dishFacade.findAll(filter), HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search dishes by name and description")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<PageDto<DishDto>> search(
+            @RequestParam final String query,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        return new ResponseEntity<>(dishFacade.search(query, page, size), HttpStatus.OK);
     }
 
     @DeleteMapping("/{id}")
@@ -55,8 +91,10 @@ public class DishController {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<DishDto> updateDish(
             @Validated(OnUpdate.class)
-            @RequestBody DishDto dishDto) {
-        return new ResponseEntity<>(dishFacade.updateDish(dishDto), HttpStatus.OK);
+            @RequestBody DishDto dishDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        dishDto.setVersion(VersionTags.parseIfMatch(ifMatch));
+        return VersionTags.respond(HttpStatus.OK, dishFacade.updateDish(dishDto), DishDto::getVersion);
     }
 
     @PostMapping("/{id}/image")
@@ -64,9 +102,12 @@ public class DishController {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<DishDto> uploadImage(
             @PathVariable final UUID id,
-            @Validated @ModelAttribute final ModelImageDto imageDto
+            @Validated @ModelAttribute final ModelImageDto imageDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return new ResponseEntity<>(dishFacade.uploadImage(id, imageDto), HttpStatus.OK);
+        return VersionTags.respond(HttpStatus.OK,
+                dishFacade.uploadImage(id, imageDto, VersionTags.parseIfMatch(ifMatch)),
+                DishDto::getVersion);
     }
 
     @GetMapping("/{id}/name")
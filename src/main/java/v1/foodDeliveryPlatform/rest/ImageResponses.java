@@ -0,0 +1,82 @@
+package v1.foodDeliveryPlatform.rest;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import v1.foodDeliveryPlatform.model.ImageObject;
+import v1.foodDeliveryPlatform.service.MinioService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+final class ImageResponses {
+
+    private ImageResponses() {
+    }
+
+    /**
+     * Answers conditional requests from object metadata alone and otherwise streams the
+     * object from MinIO straight into the response, so the body is never held in memory
+     * and the servlet thread is released while a slow client drains it.
+     */
+    static ResponseEntity<StreamingResponseBody> stream(MinioService minioService,
+                                                        String imageName,
+                                                        String ifNoneMatch) throws Exception {
+        ImageObject image = minioService.statFile(imageName);
+        String tag = "\"" + image.getEtag() + "\"";
+
+        if (matches(ifNoneMatch, tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, tag)
+                    .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS))
+                    .build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream stream = minioService.openFile(imageName)) {
+                stream.transferTo(outputStream);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Failed to read image " + imageName, e);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, contentType(imageName))
+                .header(HttpHeaders.ETAG, tag)
+                .contentLength(image.getSize())
+                .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS))
+                .header("Access-Control-Allow-Origin", "*")
+                .header("Access-Control-Allow-Methods", "GET, OPTIONS")
+                .header("Access-Control-Allow-Headers", "*")
+                .body(body);
+    }
+
+    private static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals(tag) || candidate.equals("*"));
+    }
+
+    private static String contentType(String filename) {
+        if (filename.endsWith(".jpg") || filename.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (filename.endsWith(".png")) {
+            return "image/png";
+        } else if (filename.endsWith(".gif")) {
+            return "image/gif";
+        } else if (filename.endsWith(".webp")) {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
+}
@@ -3,13 +3,12 @@ package v1.foodDeliveryPlatform.rest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
 import v1.foodDeliveryPlatform.facade.ImageFacade;
 import v1.foodDeliveryPlatform.facade.RestaurantFacade;
@@ -17,7 +16,6 @@ import v1.foodDeliveryPlatform.service.MinioService;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -52,24 +50,30 @@ public class ImageRestaurantController {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<RestaurantDto> removeImage(
             @PathVariable final UUID restaurantId,
-            @RequestParam String image) throws Exception {
+            @RequestParam String image,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
 
-        return new ResponseEntity<>(imageFacade.removeImageByRestaurantId(restaurantId, image), HttpStatus.OK);
+        return VersionTags.respond(HttpStatus.OK,
+                imageFacade.removeImageByRestaurantId(restaurantId, image, VersionTags.parseIfMatch(ifMatch)),
+                RestaurantDto::getVersion);
     }
 
     @DeleteMapping("/all")
     @Operation(summary = "Remove all images by restaurant id")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<RestaurantDto> removeAllImages(
-            @PathVariable final UUID restaurantId) {
+            @PathVariable final UUID restaurantId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        return new ResponseEntity<>(imageFacade.removeAllImagesByRestaurantId(restaurantId), HttpStatus.OK);
+        return VersionTags.respond(HttpStatus.OK,
+                imageFacade.removeAllImagesByRestaurantId(restaurantId, VersionTags.parseIfMatch(ifMatch)),
+                RestaurantDto::getVersion);
     }
 
     @GetMapping("/{imageName:.+}")
     @Operation(summary = "Get dish image by name")
     @PreAuthorize("permitAll()")
-    public ResponseEntity<byte[]> getImage(
+    public ResponseEntity<StreamingResponseBody> getImage(
             @PathVariable final UUID restaurantId,
             @PathVariable final String imageName,
             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
@@ -78,34 +82,7 @@ public class ImageRestaurantController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        byte[] imageData = minioService.getFile(imageName);
-        String tag = DigestUtils.md5DigestAsHex(imageData);
-
-        if (ifNoneMatch != null && ifNoneMatch.equals("\"" + tag + "\"")) {
-            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
-        }
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, getContentType(imageName))
-                .header(HttpHeaders.ETAG, "\"" + tag + "\"")
-                .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS))
-                .header("Access-Control-Allow-Origin", "*")
-                .header("Access-Control-Allow-Methods", "GET, OPTIONS")
-                .header("Access-Control-Allow-Headers", "*")
-                .body(imageData);
-    }
-
-    private String getContentType(String filename) {
-        if (filename.endsWith(".jpg") || filename.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else if (filename.endsWith(".png")) {
-            return "image/png";
-        } else if (filename.endsWith(".gif")) {
-            return "image/gif";
-        } else if (filename.endsWith(".webp")) {
-            return "image/webp";
-        }
-        return "application/octet-stream";
+        return ImageResponses.stream(minioService, imageName, ifNoneMatch);
     }
 }
 
@@ -1,21 +1,36 @@
 package v1.foodDeliveryPlatform.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
+import v1.foodDeliveryPlatform.dto.model.CuisineCountDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.NearbyRestaurantDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteRequestDto;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
 import v1.foodDeliveryPlatform.dto.model.feign.RestaurantClientDto;
 import v1.foodDeliveryPlatform.dto.validation.OnCreate;
 import v1.foodDeliveryPlatform.dto.validation.OnUpdate;
 import v1.foodDeliveryPlatform.facade.DishFacade;
 import v1.foodDeliveryPlatform.facade.RestaurantFacade;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.service.ResponseCacheService;
 
 import java.util.List;
 import java.util.UUID;
@@ -37,13 +52,31 @@ public class RestaurantController {
 
     private final RestaurantFacade restaurantFacade;
     private final DishFacade dishFacade;
+    private final ResponseCacheService responseCache;
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get restaurant by id")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = RestaurantDto.class)))
     @PreAuthorize("permitAll()")
-    public ResponseEntity<RestaurantDto> getById(
-            @PathVariable final UUID id) {
-        return new ResponseEntity<>(restaurantFacade.getById(id), HttpStatus.OK);
+    public ResponseEntity<byte[]> getById(
+            @PathVariable final UUID id,
+            final WebRequest request) {
+        ResourceState state = restaurantFacade.getState(id);
+        return VersionTags.conditional(request, VersionTags.of(state.getVersion()), state.getLastModified(),
+                gzip -> responseCache.getOrRender("restaurant:" + id + ":" + state.getVersion(), gzip,
+                        () -> restaurantFacade.getById(id),
+                        restaurant -> state.getVersion().equals(restaurant.getVersion())));
+    }
+
+    @GetMapping(value = "/{id}/menu", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get restaurant with its dishes and images from the precomputed menu document")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<byte[]> getMenu(
+            @PathVariable final UUID id,
+            final WebRequest request) {
+        MenuSnapshot menu = restaurantFacade.getMenu(id);
+        return VersionTags.conditional(request, VersionTags.of(menu.getVersion()), menu.getUpdatedAt(),
+                gzip -> responseCache.getOrEncode("menu:" + id + ":" + menu.getVersion(), gzip, menu::getDocument));
     }
 
     @DeleteMapping("/{id}")
@@ -61,7 +94,9 @@ public class RestaurantController {
     public ResponseEntity<RestaurantDto> createRestaurant(
             @Validated(OnCreate.class)
             @RequestBody RestaurantDto restaurantDto) {
-        return new ResponseEntity<>(restaurantFacade.createRestaurant(restaurantDto), HttpStatus.CREATED);
+        return VersionTags.respond(HttpStatus.CREATED,
+                restaurantFacade.createRestaurant(restaurantDto),
+                RestaurantDto::getVersion);
     }
 
     @PutMapping
@@ -69,8 +104,12 @@ public class RestaurantController {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<RestaurantDto> updateRestaurant(
             @Validated(OnUpdate.class)
-            @RequestBody RestaurantDto restaurantDto) {
-        return new ResponseEntity<>(restaurantFacade.updateRestaurant(restaurantDto), HttpStatus.OK);
+            @RequestBody RestaurantDto restaurantDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        restaurantDto.setVersion(VersionTags.parseIfMatch(ifMatch));
+        return VersionTags.respond(HttpStatus.OK,
+                restaurantFacade.updateRestaurant(restaurantDto),
+                RestaurantDto::getVersion);
     }
 
     @PostMapping("/{id}/image")
@@ -78,16 +117,27 @@ public class RestaurantController {
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
     public ResponseEntity<RestaurantDto> uploadImage(
             @PathVariable final UUID id,
-            @Validated @ModelAttribute final ModelImageDto imageDto
+            @Validated @ModelAttribute final ModelImageDto imageDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return new ResponseEntity<>(restaurantFacade.uploadImage(id, imageDto), HttpStatus.OK);
+        return VersionTags.respond(HttpStatus.OK,
+                restaurantFacade.uploadImage(id, imageDto, VersionTags.parseIfMatch(ifMatch)),
+                RestaurantDto::getVersion);
     }
 
-    @GetMapping
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all restaurants")
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestaurantDto.class))))
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<RestaurantDto>> getAll() {
-        return new ResponseEntity<>(restaurantFacade.getAllRestaurants(), HttpStatus.OK);
+    public ResponseEntity<byte[]> getAll(final WebRequest request) {
+        ResourceState state = restaurantFacade.getCollectionState();
+        String eTag = VersionTags.ofCollection(state);
+        return VersionTags.conditional(request, eTag, state.getLastModified(),
+                gzip -> responseCache.getOrRender("restaurants:" + eTag.replace("\"", ""), gzip,
+                        restaurantFacade::getAllRestaurants,
+                        restaurants -> restaurants.size() == state.getCount()
+                                && restaurants.stream().mapToLong(RestaurantDto::getVersion).sum() == state.getVersion()));
     }
 
     @GetMapping("/cuisine")
@@ -98,6 +148,35 @@ public class RestaurantController {
         return new ResponseEntity<>(restaurantFacade.getAllByCuisine(cuisine), HttpStatus.OK);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search restaurants by name and address")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<PageDto<RestaurantDto>> search(
+            @RequestParam final String query,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        return new ResponseEntity<>(restaurantFacade.search(query, page, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Get restaurants near a point ordered by distance")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<PageDto<NearbyRestaurantDto>> findNearby(
+            @RequestParam final double lat,
+            @RequestParam final double lon,
+            @RequestParam(defaultValue = "5000") final double radius,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        return new ResponseEntity<>(restaurantFacade.findNearby(lat, lon, radius, page, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/cuisine/counts")
+    @Operation(summary = "Get number of restaurants per cuisine")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<CuisineCountDto>> getCuisineCounts() {
+        return new ResponseEntity<>(restaurantFacade.getCuisineCounts(), HttpStatus.OK);
+    }
+
     @PostMapping("/{id}/dishes")
     @Operation(summary = "Add dish to restaurant")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_MANAGER')")
@@ -108,12 +187,31 @@ public class RestaurantController {
         return new ResponseEntity<>(dishFacade.createDish(dishDto, id), HttpStatus.CREATED);
     }
 
-    @GetMapping("/{id}/dishes")
+    @GetMapping(value = "/{id}/dishes", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get dishes by restaurant id")
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DishDto.class))))
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<DishDto>> getDishesByRestaurantId(
-            @PathVariable final UUID id) {
-        return new ResponseEntity<>(dishFacade.getAllByRestaurantId(id), HttpStatus.OK);
+    public ResponseEntity<byte[]> getDishesByRestaurantId(
+            @PathVariable final UUID id,
+            final WebRequest request) {
+        ResourceState state = restaurantFacade.getState(id);
+        return VersionTags.conditional(request, VersionTags.of(state.getVersion()), state.getLastModified(),
+                gzip -> responseCache.getOrRender("restaurant-dishes:" + id + ":" + state.getVersion(), gzip,
+                        () -> dishFacade.getAllByRestaurantId(id),
+                        dishes -> state.getVersion().equals(dishes.getRestaurantVersion())));
+    }
+
+    @PostMapping("/{id}/quote")
+    @Operation(summary = "Price dishes of a restaurant for checkout")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<QuoteDto> quote(
+            @PathVariable final UUID id,
+            @Validated @RequestBody final QuoteRequestDto request) {
+        QuoteDto quote = restaurantFacade.quote(id, request);
+        return ResponseEntity.ok()
+                .eTag(quote.getPriceVersion())
+                .body(quote);
     }
 
     @GetMapping("/{id}/exists")
@@ -0,0 +1,40 @@
+package v1.foodDeliveryPlatform.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import v1.foodDeliveryPlatform.dto.model.SuggestionDto;
+import v1.foodDeliveryPlatform.facade.SuggestionFacade;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggestions")
+@CrossOrigin(
+        origins = "http://localhost:5173",
+        allowedHeaders = "*",
+        methods = {RequestMethod.GET, RequestMethod.OPTIONS},
+        allowCredentials = "true"
+)
+@AllArgsConstructor
+@Tag(
+        name = "Suggestion Controller",
+        description = "Restaurant and dish name autocomplete API"
+)
+public class SuggestionController {
+
+    private final SuggestionFacade suggestionFacade;
+
+    @GetMapping
+    @Operation(summary = "Suggest restaurant and dish names by prefix")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam final String prefix,
+            @RequestParam(defaultValue = "10") final int limit) {
+        return new ResponseEntity<>(suggestionFacade.suggest(prefix, limit), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,114 @@
+package v1.foodDeliveryPlatform.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
+import v1.foodDeliveryPlatform.model.EncodedBody;
+import v1.foodDeliveryPlatform.model.ResourceState;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+
+final class VersionTags {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private VersionTags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tag of a set of rows: any insert, update or delete changes at least one of
+     * the row count, the version sum or the latest modification time.
+     */
+    static String ofCollection(ResourceState state) {
+        long lastModified = state.getLastModified() != null ? state.getLastModified().toEpochMilli() : 0;
+        return "\"" + state.getCount() + "-" + state.getVersion() + "-" + lastModified + "\"";
+    }
+
+    /**
+     * Tag of the gzip-coded representation: a strong validator must differ per content-coding.
+     */
+    static String gzipVariant(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Returns the version a conditional write expects, or {@code null} when the request
+     * is unconditional. Only a single strong tag produced by {@link #of(Long)} can match,
+     * in either its identity or its gzip form.
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong entity tag");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        if (value.endsWith(GZIP_SUFFIX)) {
+            value = value.substring(0, value.length() - GZIP_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match any known version");
+        }
+    }
+
+    static <T> ResponseEntity<T> respond(HttpStatus status, T body, Function<T, Long> version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (body != null && version.apply(body) != null) {
+            builder.eTag(of(version.apply(body)));
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Answers a conditional GET with 304 before the body is loaded, otherwise writes the
+     * already encoded JSON body, gzip-compressed when the request accepts it. The gzip body
+     * carries its own tag; If-None-Match accepts either form, since both name the same version.
+     */
+    static ResponseEntity<byte[]> conditional(WebRequest request, String eTag, Instant lastModified,
+                                              Function<Boolean, EncodedBody> body) {
+        long lastModifiedMillis = lastModified != null ? lastModified.toEpochMilli() : -1;
+        boolean gzip = ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (notModified(request, eTag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(gzip ? gzipVariant(eTag) : eTag)
+                    .lastModified(lastModifiedMillis)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        EncodedBody encoded = body.apply(gzip);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(encoded.gzipped() ? gzipVariant(eTag) : eTag)
+                .lastModified(lastModifiedMillis)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(encoded.content());
+    }
+
+    private static boolean notModified(WebRequest request, String eTag, long lastModifiedMillis) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return request.checkNotModified(lastModifiedMillis);
+        }
+        String gzipTag = gzipVariant(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag) || candidate.equals(gzipTag));
+    }
+}
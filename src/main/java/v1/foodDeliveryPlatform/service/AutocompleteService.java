@@ -0,0 +1,23 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.Suggestion;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AutocompleteService {
+
+    List<Suggestion> suggest(String prefix, int limit);
+
+    void indexRestaurant(Restaurant restaurant);
+
+    void removeRestaurant(UUID restaurantId);
+
+    void indexDish(Dish dish);
+
+    void removeDish(UUID dishId);
+
+    void rebuild();
+}
@@ -0,0 +1,10 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.CatalogDelta;
+
+public interface CatalogChangeService {
+
+    CatalogDelta getChanges(long since, Integer limit);
+
+    int publishPending();
+}
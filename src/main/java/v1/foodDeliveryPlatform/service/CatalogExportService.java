@@ -0,0 +1,10 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.Restaurant;
+
+import java.util.function.Consumer;
+
+public interface CatalogExportService {
+
+    void exportCatalog(Consumer<Restaurant> consumer);
+}
@@ -1,26 +1,41 @@
 package v1.foodDeliveryPlatform.service;
 
+import org.springframework.data.domain.Page;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishFilter;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.KeysetPage;
 import v1.foodDeliveryPlatform.model.ModelImage;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.model.RestaurantDishes;
 import v1.foodDeliveryPlatform.model.feign.DishClient;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DishService {
     Dish getById(UUID id);
 
+    ResourceState getState(UUID id);
+
     Dish createDish(Dish dish, UUID restaurantId);
 
-    List<Dish> getAllByRestaurantId(UUID restaurantId);
+    RestaurantDishes getAllByRestaurantId(UUID restaurantId);
+
+    Page<Dish> search(String query, int page, int size);
+
+    KeysetPage<Dish> findAll(DishFilter filter);
 
     Dish updateDish(Dish dish);
 
     void delete(UUID id);
 
-    Dish uploadImage(UUID id, ModelImage image);
+    Dish uploadImage(UUID id, ModelImage image, Long expectedVersion);
 
     boolean existsDish(UUID restaurantId, UUID dishId);
 
     DishClient getNameById(UUID id);
+
+    List<DishSummary> getSummaries(Collection<UUID> ids);
 }
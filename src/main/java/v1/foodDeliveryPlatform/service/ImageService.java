@@ -8,15 +8,15 @@ import java.util.UUID;
 
 public interface ImageService {
 
-    Dish removeImageByDishId(UUID dishId, String image) throws Exception;
+    Dish removeImageByDishId(UUID dishId, String image, Long expectedVersion) throws Exception;
 
-    Dish removeAllImagesByDishId(UUID dishId);
+    Dish removeAllImagesByDishId(UUID dishId, Long expectedVersion);
 
     List<String> getAllByDishId(UUID dishId);
 
-    Restaurant removeImageByRestaurantId(UUID restaurantId, String image) throws Exception;
+    Restaurant removeImageByRestaurantId(UUID restaurantId, String image, Long expectedVersion) throws Exception;
 
-    Restaurant removeAllImagesByRestaurantId(UUID restaurantId);
+    Restaurant removeAllImagesByRestaurantId(UUID restaurantId, Long expectedVersion);
 
     List<String> getAllByRestaurantId(UUID restaurantId);
 }
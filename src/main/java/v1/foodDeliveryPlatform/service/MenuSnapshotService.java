@@ -0,0 +1,14 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+
+import java.util.UUID;
+
+public interface MenuSnapshotService {
+
+    MenuSnapshot getMenu(UUID restaurantId);
+
+    MenuSnapshot rebuild(UUID restaurantId);
+
+    void refresh(UUID restaurantId);
+}
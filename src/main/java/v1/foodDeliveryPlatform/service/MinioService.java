@@ -1,13 +1,24 @@
 package v1.foodDeliveryPlatform.service;
 
+import v1.foodDeliveryPlatform.model.ImageObject;
 import v1.foodDeliveryPlatform.model.ModelImage;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface MinioService {
 
     void deleteFile(String fileName) throws Exception;
 
+    Map<String, String> deleteFiles(Collection<String> fileNames) throws Exception;
+
     String upload(ModelImage image);
 
-    byte[] getFile(String fileName) throws Exception;
+    ImageObject statFile(String fileName) throws Exception;
+
+    InputStream openFile(String fileName) throws Exception;
+
+    List<ImageObject> listFiles(String startAfter, int limit) throws Exception;
 }
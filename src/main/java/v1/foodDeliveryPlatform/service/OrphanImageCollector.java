@@ -0,0 +1,6 @@
+package v1.foodDeliveryPlatform.service;
+
+public interface OrphanImageCollector {
+
+    int collect();
+}
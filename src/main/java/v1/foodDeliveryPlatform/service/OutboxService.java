@@ -0,0 +1,12 @@
+package v1.foodDeliveryPlatform.service;
+
+import java.util.Collection;
+
+public interface OutboxService {
+
+    void enqueueImageDeletion(Collection<String> images);
+
+    int dispatchBatch();
+
+    int purgeDeadLetters();
+}
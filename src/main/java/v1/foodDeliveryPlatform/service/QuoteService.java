@@ -0,0 +1,12 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.Quote;
+import v1.foodDeliveryPlatform.model.QuoteItem;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface QuoteService {
+
+    Quote quote(UUID restaurantId, List<QuoteItem> items);
+}
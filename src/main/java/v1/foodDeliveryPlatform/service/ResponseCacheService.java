@@ -0,0 +1,13 @@
+package v1.foodDeliveryPlatform.service;
+
+import v1.foodDeliveryPlatform.model.EncodedBody;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public interface ResponseCacheService {
+
+    <T> EncodedBody getOrRender(String key, boolean gzip, Supplier<T> body, Predicate<T> matchesKey);
+
+    EncodedBody getOrEncode(String key, boolean gzip, Supplier<byte[]> body);
+}
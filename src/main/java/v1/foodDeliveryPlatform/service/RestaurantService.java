@@ -1,6 +1,10 @@
 package v1.foodDeliveryPlatform.service;
 
+import org.springframework.data.domain.Page;
+import v1.foodDeliveryPlatform.model.CuisineCount;
 import v1.foodDeliveryPlatform.model.ModelImage;
+import v1.foodDeliveryPlatform.model.NearbyRestaurant;
+import v1.foodDeliveryPlatform.model.ResourceState;
 import v1.foodDeliveryPlatform.model.Restaurant;
 import v1.foodDeliveryPlatform.model.feign.RestaurantClient;
 
@@ -11,6 +15,12 @@ public interface RestaurantService {
 
     Restaurant getById(UUID id);
 
+    ResourceState getState(UUID id);
+
+    ResourceState getCollectionState();
+
+    void markModified(UUID id);
+
     Restaurant createRestaurant(Restaurant restaurant);
 
     List<Restaurant> getAllRestaurants();
@@ -21,8 +31,14 @@ public interface RestaurantService {
 
     List<Restaurant> getAllByCuisine(String cuisine);
 
+    List<CuisineCount> getCuisineCounts();
+
+    Page<Restaurant> search(String query, int page, int size);
+
+    Page<NearbyRestaurant> findNearby(double latitude, double longitude, double radius, int page, int size);
+
     boolean existsRestaurant(UUID id);
 
     RestaurantClient getNameById(UUID id);
-    Restaurant uploadImage(UUID id, ModelImage image);
+    Restaurant uploadImage(UUID id, ModelImage image, Long expectedVersion);
 }
@@ -0,0 +1,152 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.Suggestion;
+import v1.foodDeliveryPlatform.model.enums.SuggestionType;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.repository.projection.NameView;
+import v1.foodDeliveryPlatform.service.AutocompleteService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    static final int MAX_LIMIT = 20;
+
+    private final RestaurantRepository restaurantRepository;
+    private final DishRepository dishRepository;
+
+    private final Object updateLock = new Object();
+
+    private volatile PrefixIndex index = new PrefixIndex();
+
+    /**
+     * Updates committed while a rebuild is reading its snapshot; replayed onto the new index
+     * before it replaces the current one. Guarded by {@code updateLock}.
+     */
+    private List<Consumer<PrefixIndex>> pendingUpdates;
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(
+                    String.format("Limit must be between 1 and %d", MAX_LIMIT));
+        }
+        return index.find(prefix, limit);
+    }
+
+    @Override
+    public void indexRestaurant(Restaurant restaurant) {
+        Suggestion suggestion = Suggestion.builder()
+                .id(restaurant.getId())
+                .name(restaurant.getName())
+                .type(SuggestionType.RESTAURANT)
+                .restaurantId(restaurant.getId())
+                .build();
+        afterCommit(idx -> idx.put(suggestion));
+    }
+
+    @Override
+    public void removeRestaurant(UUID restaurantId) {
+        afterCommit(idx -> {
+            idx.remove(restaurantId);
+            idx.removeIf(suggestion -> restaurantId.equals(suggestion.getRestaurantId()));
+        });
+    }
+
+    @Override
+    public void indexDish(Dish dish) {
+        Suggestion suggestion = Suggestion.builder()
+                .id(dish.getId())
+                .name(dish.getName())
+                .type(SuggestionType.DISH)
+                .restaurantId(dish.getRestaurant() != null ? dish.getRestaurant().getId() : null)
+                .build();
+        afterCommit(idx -> idx.put(suggestion));
+    }
+
+    @Override
+    public void removeDish(UUID dishId) {
+        afterCommit(idx -> idx.remove(dishId));
+    }
+
+    /**
+     * Runs at startup and then periodically, which is also how writes made on other replicas
+     * reach this one's index.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval:PT5M}",
+            initialDelayString = "${autocomplete.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        log.info("Building autocomplete index");
+        synchronized (updateLock) {
+            pendingUpdates = new ArrayList<>();
+        }
+        try {
+            PrefixIndex rebuilt = new PrefixIndex();
+            List<NameView> restaurants = restaurantRepository.findAllNames();
+            restaurants.forEach(view -> rebuilt.put(toSuggestion(view, SuggestionType.RESTAURANT)));
+            List<NameView> dishes = dishRepository.findAllNames();
+            dishes.forEach(view -> rebuilt.put(toSuggestion(view, SuggestionType.DISH)));
+            synchronized (updateLock) {
+                pendingUpdates.forEach(update -> update.accept(rebuilt));
+                index = rebuilt;
+            }
+            log.info("Autocomplete index built: {} restaurants, {} dishes", restaurants.size(), dishes.size());
+        } finally {
+            synchronized (updateLock) {
+                pendingUpdates = null;
+            }
+        }
+    }
+
+    private Suggestion toSuggestion(NameView view, SuggestionType type) {
+        return Suggestion.builder()
+                .id(view.getId())
+                .name(view.getName())
+                .type(type)
+                .restaurantId(view.getRestaurantId())
+                .build();
+    }
+
+    private void afterCommit(Consumer<PrefixIndex> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private void apply(Consumer<PrefixIndex> update) {
+        synchronized (updateLock) {
+            update.accept(index);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.props.CatalogChangeProperties;
+import v1.foodDeliveryPlatform.service.CatalogChangeService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogChangePublisher {
+
+    private final CatalogChangeService catalogChangeService;
+    private final CatalogChangeProperties catalogChangeProperties;
+
+    @Scheduled(fixedDelayString = "${catalog-changes.publish-interval:PT1S}")
+    public void publish() {
+        try {
+            int published;
+            do {
+                published = catalogChangeService.publishPending();
+            } while (published == catalogChangeProperties.getPublishBatchSize());
+        } catch (Exception e) {
+            log.error("Catalog change publishing failed", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import v1.foodDeliveryPlatform.model.CatalogChange;
+import v1.foodDeliveryPlatform.model.CatalogDelta;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+import v1.foodDeliveryPlatform.props.CatalogChangeProperties;
+import v1.foodDeliveryPlatform.repository.CatalogChangeRepository;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.CatalogChangeService;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogChangeServiceImpl implements CatalogChangeService {
+
+    private static final long PUBLISH_LOCK_KEY = 0x636174616c6f67L;
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final DishRepository dishRepository;
+    private final CatalogChangeProperties catalogChangeProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogDelta getChanges(long since, Integer limit) {
+        int pageSize = limit != null ? limit : catalogChangeProperties.getDefaultPageSize();
+        if (since < 0) {
+            throw new IllegalArgumentException("Since must not be negative");
+        }
+        if (pageSize < 1 || pageSize > catalogChangeProperties.getMaxPageSize()) {
+            throw new IllegalArgumentException(
+                    String.format("Limit must be between 1 and %d", catalogChangeProperties.getMaxPageSize()));
+        }
+        log.debug("Fetching catalog changes since: {}, limit: {}", since, pageSize);
+
+        List<CatalogChange> page = catalogChangeRepository.findPublishedAfter(since, pageSize + 1);
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            page = page.subList(0, pageSize);
+        }
+        long nextSince = page.isEmpty() ? since : page.get(page.size() - 1).getSeq();
+
+        Map<String, CatalogChange> latest = new HashMap<>();
+        for (CatalogChange change : page) {
+            latest.put(change.getEntityType() + ":" + change.getEntityId(), change);
+        }
+        List<CatalogChange> changes = new ArrayList<>(latest.values());
+        changes.sort(Comparator.comparing(CatalogChange::getSeq));
+
+        Map<UUID, Restaurant> restaurants = loadRestaurants(liveIds(changes, CatalogEntityType.RESTAURANT));
+        Map<UUID, Dish> dishes = dishRepository
+                .findAllById(liveIds(changes, CatalogEntityType.DISH)).stream()
+                .collect(Collectors.toMap(Dish::getId, Function.identity()));
+
+        log.debug("Returning {} catalog changes collapsed from {} rows, next since: {}",
+                changes.size(), page.size(), nextSince);
+        return CatalogDelta.builder()
+                .changes(changes)
+                .restaurants(restaurants)
+                .dishes(dishes)
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Numbers committed change rows in a single transaction guarded by an advisory lock,
+     * so a client never sees a sequence number before all lower ones are visible.
+     */
+    @Override
+    @Transactional
+    public int publishPending() {
+        if (!catalogChangeRepository.tryLock(PUBLISH_LOCK_KEY)) {
+            log.debug("Catalog changes are being published by another instance");
+            return 0;
+        }
+        int published = catalogChangeRepository.publishPending(catalogChangeProperties.getPublishBatchSize());
+        if (published > 0) {
+            log.debug("Published {} catalog changes", published);
+        }
+        return published;
+    }
+
+    /**
+     * Reads restaurant rows and their images without the menu: dish changes are separate
+     * entries in the delta, so the restaurants come back with {@code dishes} left null.
+     */
+    private Map<UUID, Restaurant> loadRestaurants(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<RestaurantImage>> images = restaurantRepository.findImagesByRestaurantIdIn(ids).stream()
+                .collect(Collectors.groupingBy(RestaurantImage::getRestaurantId));
+        return restaurantRepository.findViewsByIdIn(ids).stream()
+                .map(view -> Restaurant.builder()
+                        .id(view.getId())
+                        .name(view.getName())
+                        .cuisine(view.getCuisine())
+                        .address(view.getAddress())
+                        .latitude(view.getLatitude())
+                        .longitude(view.getLongitude())
+                        .version(view.getVersion())
+                        .images(images.getOrDefault(view.getId(), List.of()))
+                        .build())
+                .collect(Collectors.toMap(Restaurant::getId, Function.identity()));
+    }
+
+    private Set<UUID> liveIds(List<CatalogChange> changes, CatalogEntityType type) {
+        return changes.stream()
+                .filter(change -> change.getEntityType() == type && !change.isDeleted())
+                .map(CatalogChange::getEntityId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,33 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.props.CatalogExportProperties;
+import v1.foodDeliveryPlatform.repository.CatalogExportRepository;
+import v1.foodDeliveryPlatform.service.CatalogExportService;
+
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogExportServiceImpl implements CatalogExportService {
+
+    private final CatalogExportRepository catalogExportRepository;
+    private final CatalogExportProperties catalogExportProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCatalog(Consumer<Restaurant> consumer) {
+        log.info("Exporting catalog with fetch size: {}", catalogExportProperties.getFetchSize());
+        long[] exported = new long[1];
+        catalogExportRepository.forEachRestaurant(catalogExportProperties.getFetchSize(), restaurant -> {
+            consumer.accept(restaurant);
+            exported[0]++;
+        });
+        log.info("Catalog export finished, restaurants exported: {}", exported[0]);
+    }
+}
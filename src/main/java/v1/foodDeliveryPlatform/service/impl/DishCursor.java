@@ -0,0 +1,39 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import v1.foodDeliveryPlatform.model.enums.DishSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+record DishCursor(DishSort sort, String value, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static DishCursor decode(String cursor, DishSort expectedSort) {
+        DishCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException();
+            }
+            decoded = new DishCursor(
+                    DishSort.valueOf(raw.substring(0, first)),
+                    raw.substring(first + 1, last),
+                    UUID.fromString(raw.substring(last + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (decoded.sort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+        return decoded;
+    }
+}
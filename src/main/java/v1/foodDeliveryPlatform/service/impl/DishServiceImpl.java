@@ -1,23 +1,38 @@
 package v1.foodDeliveryPlatform.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishFilter;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.ImageMetadata;
+import v1.foodDeliveryPlatform.model.KeysetPage;
 import v1.foodDeliveryPlatform.model.ModelImage;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.model.RestaurantDishes;
+import v1.foodDeliveryPlatform.model.enums.DishSort;
 import v1.foodDeliveryPlatform.model.feign.DishClient;
 import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.repository.specification.DishSpecifications;
+import v1.foodDeliveryPlatform.service.AutocompleteService;
 import v1.foodDeliveryPlatform.service.DishService;
 import v1.foodDeliveryPlatform.service.MinioService;
+import v1.foodDeliveryPlatform.service.OutboxService;
 import v1.foodDeliveryPlatform.service.RestaurantService;
 
-import java.util.ArrayList;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,9 +41,14 @@ import java.util.UUID;
 @Slf4j
 public class DishServiceImpl implements DishService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final DishRepository dishRepository;
     private final RestaurantService restaurantService;
     private final MinioService minioService;
+    private final AutocompleteService autocompleteService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -43,6 +63,15 @@ public class DishServiceImpl implements DishService {
         return dish;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceState getState(UUID id) {
+        return dishRepository.findStateById(id).orElseThrow(() -> {
+            log.warn("Dish not found with ID: {}", id);
+            return new ResourceNotFoundException("Dish not found");
+        });
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = "restaurants", allEntries = true)
@@ -51,18 +80,69 @@ public class DishServiceImpl implements DishService {
 
         dish.setRestaurant(restaurantService.getById(restaurantId));
         Dish savedDish = dishRepository.save(dish);
+        restaurantService.markModified(restaurantId);
+        autocompleteService.indexDish(savedDish);
 
         log.info("Dish created successfully: {} ({}) for restaurant: {}",
                 savedDish.getName(), savedDish.getId(), restaurantId);
         return savedDish;
     }
 
+    /**
+     * Reads the dishes before the restaurant version. Every dish write bumps that version,
+     * so a version equal to one sampled before this call proves the list belongs to it.
+     */
     @Override
-    @Transactional
-    public List<Dish> getAllByRestaurantId(UUID restaurantId) {
+    @Transactional(readOnly = true)
+    public RestaurantDishes getAllByRestaurantId(UUID restaurantId) {
         log.debug("Fetching all dishes for restaurant: {}", restaurantId);
         List<Dish> dishes = dishRepository.findAllByRestaurantId(restaurantId);
-        log.debug("Found {} dishes for restaurant: {}", dishes.size(), restaurantId);
+        Long restaurantVersion = restaurantService.getState(restaurantId).getVersion();
+        log.debug("Found {} dishes for restaurant: {} at version {}", dishes.size(), restaurantId, restaurantVersion);
+        return new RestaurantDishes(dishes, restaurantVersion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Dish> findAll(DishFilter filter) {
+        log.debug("Querying dishes by filter: {}", filter);
+
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("Min price must be smaller or equal max price");
+        }
+        DishSort sort = filter.getSort() != null ? filter.getSort() : DishSort.PRICE_ASC;
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+
+        Specification<Dish> specification = Specification.allOf(
+                DishSpecifications.restaurantIdEquals(filter.getRestaurantId()),
+                DishSpecifications.priceAtLeast(filter.getMinPrice()),
+                DishSpecifications.priceAtMost(filter.getMaxPrice()),
+                DishSpecifications.nameContains(filter.getName()),
+                afterCursor(filter.getCursor(), sort)
+        );
+
+        List<Dish> dishes = dishRepository.findBy(specification, query -> query
+                .sortBy(sortOf(sort))
+                .limit(size + 1)
+                .all());
+
+        String nextCursor = null;
+        if (dishes.size() > size) {
+            dishes = dishes.subList(0, size);
+            nextCursor = cursorOf(dishes.getLast(), sort).encode();
+        }
+        log.debug("Found {} dishes, has next page: {}", dishes.size(), nextCursor != null);
+        return new KeysetPage<>(dishes, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Dish> search(String query, int page, int size) {
+        String normalized = SearchSupport.normalizeQuery(query);
+        log.debug("Searching dishes by query: '{}' (page: {}, size: {})", normalized, page, size);
+        Page<Dish> dishes = dishRepository.search(normalized, SearchSupport.pageRequest(page, size));
+        log.debug("Found {} dishes matching query: '{}'", dishes.getTotalElements(), normalized);
         return dishes;
     }
 
@@ -77,6 +157,7 @@ public class DishServiceImpl implements DishService {
         log.info("Updating dish with ID: {}", dish.getId());
 
         Dish currentDish = getById(dish.getId());
+        Versions.check(dish.getVersion(), currentDish.getVersion());
 
         log.debug("Dish update details - Name: {} -> {}, Price: {} -> {}, Description length: {} -> {}",
                 currentDish.getName(), dish.getName(),
@@ -88,12 +169,13 @@ public class DishServiceImpl implements DishService {
         currentDish.setDescription(dish.getDescription());
 
         Dish updatedDish = dishRepository.save(currentDish);
+        restaurantService.markModified(updatedDish.getRestaurant().getId());
+        autocompleteService.indexDish(updatedDish);
         log.info("Dish updated successfully: {} ({})", updatedDish.getName(), updatedDish.getId());
 
         return updatedDish;
     }
 
-    @SneakyThrows
     @Override
     @Transactional
     @Caching(evict = {
@@ -105,40 +187,54 @@ public class DishServiceImpl implements DishService {
         log.info("Deleting dish with ID: {}", id);
 
         Dish dish = getById(id);
-        log.debug("Deleting {} images for dish: {}", dish.getImages().size(), dish.getName());
-
-        for (String image : dish.getImages()) {
-            log.trace("Deleting image from MinIO: {}", image);
-            minioService.deleteFile(image);
-        }
+        log.debug("Scheduling deletion of {} images for dish: {}", dish.getImages().size(), dish.getName());
+        outboxService.enqueueImageDeletion(dish.getImages().stream().map(DishImage::getName).toList());
 
         dishRepository.deleteImagesByDishId(id);
         dishRepository.deleteDirectlyById(id);
+        restaurantService.markModified(dish.getRestaurant().getId());
+        autocompleteService.removeDish(id);
 
         log.info("Dish deleted successfully: {} ({})", dish.getName(), id);
     }
 
     @Override
-    @Transactional
     @Caching(evict = {
             @CacheEvict(value = "dishes", key = "#id"),
             @CacheEvict(value = "restaurant_dishes", key = "#result.restaurant.id"),
             @CacheEvict(value = "restaurants", allEntries = true)
     })
-    public Dish uploadImage(final UUID id, final ModelImage image) {
+    public Dish uploadImage(final UUID id, final ModelImage image, final Long expectedVersion) {
         log.info("Uploading image for dish: {}", id);
 
         Dish dish = getById(id);
+        Versions.check(expectedVersion, dish.getVersion());
         log.debug("Dish found: {} with {} existing images", dish.getName(), dish.getImages().size());
 
+        ImageMetadata metadata = ImageMetadataReader.read(image.getFile());
         String fileName = minioService.upload(image);
         log.debug("Image uploaded to MinIO: {}", fileName);
 
-        List<String> images = new ArrayList<>(dish.getImages());
-        images.add(fileName);
-        dish.setImages(images);
-
-        Dish updatedDish = dishRepository.save(dish);
+        int position = dish.getImages().stream().mapToInt(DishImage::getPosition).max().orElse(-1) + 1;
+        dish.getImages().add(DishImage.builder()
+                .dishId(dish.getId())
+                .name(fileName)
+                .position(position)
+                .metadata(metadata)
+                .build());
+
+        Dish updatedDish;
+        try {
+            updatedDish = transactionTemplate.execute(status -> {
+                Dish saved = dishRepository.save(dish);
+                restaurantService.markModified(saved.getRestaurant().getId());
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to attach image {} to dish: {}, scheduling its deletion", fileName, id);
+            outboxService.enqueueImageDeletion(List.of(fileName));
+            throw e;
+        }
         log.info("Image uploaded successfully for dish: {} (total images: {})",
                 updatedDish.getName(), updatedDish.getImages().size());
 
@@ -156,6 +252,41 @@ public class DishServiceImpl implements DishService {
         return exists;
     }
 
+    private Specification<Dish> afterCursor(String cursor, DishSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        DishCursor decoded = DishCursor.decode(cursor, sort);
+        return switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> DishSpecifications.after(
+                    "price", parsePrice(decoded.value()), decoded.id(), sort == DishSort.PRICE_DESC);
+            case NAME_ASC -> DishSpecifications.after("name", decoded.value(), decoded.id(), false);
+        };
+    }
+
+    private BigDecimal parsePrice(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private DishCursor cursorOf(Dish dish, DishSort sort) {
+        return switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> new DishCursor(sort, dish.getPrice().toPlainString(), dish.getId());
+            case NAME_ASC -> new DishCursor(sort, dish.getName(), dish.getId());
+        };
+    }
+
+    private Sort sortOf(DishSort sort) {
+        return switch (sort) {
+            case PRICE_ASC -> Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+            case PRICE_DESC -> Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id"));
+            case NAME_ASC -> Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"));
+        };
+    }
+
     @Override
     public DishClient getNameById(UUID id) {
         log.debug("Fetching dish name by ID: {}", id);
@@ -168,4 +299,14 @@ public class DishServiceImpl implements DishService {
         log.debug("Fetched dish name: {} for ID: {}", dish.getName(), id);
         return new DishClient(dish.getName());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DishSummary> getSummaries(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        log.trace("Fetching summaries of {} dishes", ids.size());
+        return dishRepository.findSummariesByIdIn(ids);
+    }
 }
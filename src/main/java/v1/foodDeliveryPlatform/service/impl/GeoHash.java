@@ -0,0 +1,109 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+final class GeoHash {
+
+    static final int MAX_PRECISION = 12;
+    static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180d;
+
+    private GeoHash() {
+    }
+
+    static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index = index << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    static double latitudeSpan(int precision) {
+        return 180d / (1L << (5 * precision / 2));
+    }
+
+    static double longitudeSpan(int precision) {
+        return 360d / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * Picks the finest precision whose cells are still at least {@code radiusMeters}
+     * tall and wide at the given latitude, so the 3x3 block around the centre cell
+     * covers the whole search circle.
+     */
+    static int precisionFor(double latitude, double radiusMeters) {
+        double lonMetersPerDegree = METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (latitudeSpan(precision) * METERS_PER_DEGREE >= radiusMeters
+                    && longitudeSpan(precision) * lonMetersPerDegree >= radiusMeters) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    static Set<String> coveringCells(double latitude, double longitude, double radiusMeters) {
+        int precision = precisionFor(latitude, radiusMeters);
+        double latSpan = latitudeSpan(precision);
+        double lonSpan = longitudeSpan(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = Math.max(-90, Math.min(90, latitude + dLat * latSpan));
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                cells.add(encode(lat, wrapLongitude(longitude + dLon * lonSpan), precision));
+            }
+        }
+        return cells;
+    }
+
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
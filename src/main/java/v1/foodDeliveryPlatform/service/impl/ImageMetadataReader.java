@@ -0,0 +1,61 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import org.springframework.web.multipart.MultipartFile;
+import v1.foodDeliveryPlatform.exception.ImageUploadException;
+import v1.foodDeliveryPlatform.model.ImageMetadata;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+final class ImageMetadataReader {
+
+    private ImageMetadataReader() {
+    }
+
+    /**
+     * Hashes the upload and reads its dimensions from the image header only;
+     * width and height stay null for formats ImageIO cannot read.
+     */
+    static ImageMetadata read(MultipartFile file) {
+        ImageMetadata metadata = ImageMetadata.builder()
+                .sizeBytes(file.getSize())
+                .contentHash(hash(file))
+                .build();
+        try (InputStream content = file.getInputStream();
+             ImageInputStream in = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers != null && readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(in, true, true);
+                    metadata.setWidth(reader.getWidth(0));
+                    metadata.setHeight(reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            metadata.setWidth(null);
+            metadata.setHeight(null);
+        }
+        return metadata;
+    }
+
+    private static String hash(MultipartFile file) {
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new ImageUploadException("Image upload failed: " + e.getMessage());
+        }
+    }
+}
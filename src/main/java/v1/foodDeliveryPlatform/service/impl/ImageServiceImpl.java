@@ -1,22 +1,24 @@
 package v1.foodDeliveryPlatform.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishImage;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
 import v1.foodDeliveryPlatform.repository.DishRepository;
 import v1.foodDeliveryPlatform.repository.RestaurantRepository;
 import v1.foodDeliveryPlatform.service.DishService;
 import v1.foodDeliveryPlatform.service.ImageService;
-import v1.foodDeliveryPlatform.service.MinioService;
+import v1.foodDeliveryPlatform.service.OutboxService;
 import v1.foodDeliveryPlatform.service.RestaurantService;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,7 +31,8 @@ public class ImageServiceImpl implements ImageService {
     private final RestaurantService restaurantService;
     private final RestaurantRepository restaurantRepository;
     private final DishRepository dishRepository;
-    private final MinioService minioService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -37,20 +40,20 @@ public class ImageServiceImpl implements ImageService {
             @CacheEvict(value = "dishes", key = "#dishId"),
             @CacheEvict(value = "restaurant_dishes", allEntries = true)
     })
-    public Dish removeImageByDishId(UUID dishId, String image) throws Exception {
+    public Dish removeImageByDishId(UUID dishId, String image, Long expectedVersion) throws Exception {
         log.info("Removing image from dish - DishId: {}, Image: {}", dishId, image);
 
         Dish dish = dishService.getById(dishId);
+        Versions.check(expectedVersion, dish.getVersion());
         log.debug("Found dish: {} with {} images", dish.getName(), dish.getImages().size());
 
-        List<String> updatedImages = new ArrayList<>(dish.getImages());
-        if (updatedImages.remove(image)) {
-            log.debug("Image found in dish, removing from MinIO and updating dish");
-            minioService.deleteFile(image);
-            dish.setImages(updatedImages);
+        if (dish.getImages().removeIf(stored -> stored.getName().equals(image))) {
+            log.debug("Image found in dish, scheduling its deletion and updating dish");
+            outboxService.enqueueImageDeletion(List.of(image));
             Dish savedDish = dishRepository.save(dish);
+            restaurantService.markModified(dish.getRestaurant().getId());
             log.info("Image removed successfully from dish: {} (remaining images: {})",
-                    dishId, updatedImages.size());
+                    dishId, dish.getImages().size());
             return savedDish;
         } else {
             log.warn("Image not found in dish images - DishId: {}, Image: {}", dishId, image);
@@ -60,25 +63,23 @@ public class ImageServiceImpl implements ImageService {
 
     @Override
     @Transactional
-    @SneakyThrows
     @Caching(evict = {
             @CacheEvict(value = "dishes", key = "#dishId"),
             @CacheEvict(value = "restaurant_dishes", allEntries = true)
     })
-    public Dish removeAllImagesByDishId(UUID dishId) {
+    public Dish removeAllImagesByDishId(UUID dishId, Long expectedVersion) {
         log.info("Removing all images from dish: {}", dishId);
 
         Dish dish = dishService.getById(dishId);
+        Versions.check(expectedVersion, dish.getVersion());
         log.debug("Found dish: {} with {} images to remove", dish.getName(), dish.getImages().size());
 
         int imageCount = dish.getImages().size();
-        for (String image : dish.getImages()) {
-            log.debug("Deleting image from MinIO: {}", image);
-            minioService.deleteFile(image);
-        }
+        outboxService.enqueueImageDeletion(dish.getImages().stream().map(DishImage::getName).toList());
 
-        dish.setImages(new ArrayList<>());
+        dish.getImages().clear();
         Dish savedDish = dishRepository.save(dish);
+        restaurantService.markModified(dish.getRestaurant().getId());
         log.info("All {} images removed successfully from dish: {}", imageCount, dishId);
 
         return savedDish;
@@ -89,7 +90,7 @@ public class ImageServiceImpl implements ImageService {
         log.debug("Fetching all images for dish: {}", dishId);
 
         Dish dish = dishService.getById(dishId);
-        List<String> images = dish.getImages();
+        List<String> images = dish.getImages().stream().map(DishImage::getName).toList();
 
         log.debug("Found {} images for dish: {}", images.size(), dishId);
         return images;
@@ -98,22 +99,24 @@ public class ImageServiceImpl implements ImageService {
     @Override
     @Transactional
     @Caching(evict = {
-            @CacheEvict(value = "restaurants", key = "#restaurantId")
+            @CacheEvict(value = "restaurants", key = "#restaurantId"),
+            @CacheEvict(value = "all_restaurants", allEntries = true),
+            @CacheEvict(value = "restaurants_by_cuisine", allEntries = true)
     })
-    public Restaurant removeImageByRestaurantId(UUID restaurantId, String image) throws Exception {
+    public Restaurant removeImageByRestaurantId(UUID restaurantId, String image, Long expectedVersion) throws Exception {
         log.info("Removing image from restaurant - RestaurantId: {}, Image: {}", restaurantId, image);
 
         Restaurant restaurant = restaurantService.getById(restaurantId);
+        Versions.check(expectedVersion, restaurant.getVersion());
         log.debug("Found restaurant: {} with {} images", restaurant.getName(), restaurant.getImages().size());
 
-        List<String> updatedImages = new ArrayList<>(restaurant.getImages());
-        if (updatedImages.remove(image)) {
-            log.debug("Image found in restaurant, removing from MinIO and updating restaurant");
-            minioService.deleteFile(image);
-            restaurant.setImages(updatedImages);
+        if (restaurant.getImages().removeIf(stored -> stored.getName().equals(image))) {
+            log.debug("Image found in restaurant, scheduling its deletion and updating restaurant");
+            outboxService.enqueueImageDeletion(List.of(image));
             Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+            eventPublisher.publishEvent(new MenuChangedEvent(restaurantId));
             log.info("Image removed successfully from restaurant: {} (remaining images: {})",
-                    restaurantId, updatedImages.size());
+                    restaurantId, restaurant.getImages().size());
             return savedRestaurant;
         } else {
             log.warn("Image not found in restaurant images - DishId: {}, Image: {}", restaurantId, image);
@@ -123,24 +126,24 @@ public class ImageServiceImpl implements ImageService {
 
     @Override
     @Transactional
-    @SneakyThrows
     @Caching(evict = {
-            @CacheEvict(value = "restaurants", key = "#restaurantId")
+            @CacheEvict(value = "restaurants", key = "#restaurantId"),
+            @CacheEvict(value = "all_restaurants", allEntries = true),
+            @CacheEvict(value = "restaurants_by_cuisine", allEntries = true)
     })
-    public Restaurant removeAllImagesByRestaurantId(UUID restaurantId) {
+    public Restaurant removeAllImagesByRestaurantId(UUID restaurantId, Long expectedVersion) {
         log.info("Removing all images from restaurant: {}", restaurantId);
 
         Restaurant restaurant = restaurantService.getById(restaurantId);
+        Versions.check(expectedVersion, restaurant.getVersion());
         log.debug("Found restaurant: {} with {} images to remove", restaurant.getName(), restaurant.getImages().size());
 
         int imageCount = restaurant.getImages().size();
-        for (String image : restaurant.getImages()) {
-            log.debug("Deleting image from MinIO: {}", image);
-            minioService.deleteFile(image);
-        }
+        outboxService.enqueueImageDeletion(restaurant.getImages().stream().map(RestaurantImage::getName).toList());
 
-        restaurant.setImages(new ArrayList<>());
+        restaurant.getImages().clear();
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new MenuChangedEvent(restaurantId));
         log.info("All {} images removed successfully from restaurant: {}", imageCount, restaurantId);
 
         return savedRestaurant;
@@ -151,7 +154,7 @@ public class ImageServiceImpl implements ImageService {
         log.debug("Fetching all images for restaurant: {}", restaurantId);
 
         Restaurant restaurant = restaurantService.getById(restaurantId);
-        List<String> images = restaurant.getImages();
+        List<String> images = restaurant.getImages().stream().map(RestaurantImage::getName).toList();
 
         log.debug("Found {} images for restaurant: {}", images.size(), restaurantId);
         return images;
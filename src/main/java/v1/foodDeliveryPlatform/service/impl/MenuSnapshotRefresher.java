@@ -0,0 +1,31 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
+import v1.foodDeliveryPlatform.service.MenuSnapshotService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuSnapshotRefresher {
+
+    private final MenuSnapshotService menuSnapshotService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        try {
+            menuSnapshotService.refresh(event.restaurantId());
+        } catch (ResourceNotFoundException e) {
+            log.debug("Restaurant {} is gone, skipping menu snapshot", event.restaurantId());
+        } catch (Exception e) {
+            log.warn("Failed to rebuild menu snapshot for restaurant: {}, it will be refreshed on the next read",
+                    event.restaurantId(), e);
+        }
+    }
+}
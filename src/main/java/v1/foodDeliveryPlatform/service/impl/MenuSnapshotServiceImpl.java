@@ -0,0 +1,102 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.mapper.RestaurantMapper;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
+import v1.foodDeliveryPlatform.repository.MenuSnapshotRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.MenuSnapshotService;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MenuSnapshotServiceImpl implements MenuSnapshotService {
+
+    private final MenuSnapshotRepository menuSnapshotRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantMapper restaurantMapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Returns the snapshot matching the current restaurant version. An outdated snapshot is
+     * served as is and refreshed in the background; only a missing one is built in place.
+     */
+    @Override
+    @Transactional
+    public MenuSnapshot getMenu(UUID restaurantId) {
+        Optional<MenuSnapshot> current = menuSnapshotRepository.findCurrent(restaurantId);
+        if (current.isPresent()) {
+            return current.get();
+        }
+        Optional<MenuSnapshot> outdated = menuSnapshotRepository.findById(restaurantId);
+        if (outdated.isPresent()) {
+            log.debug("Menu snapshot of restaurant {} is outdated, scheduling a refresh", restaurantId);
+            eventPublisher.publishEvent(new MenuChangedEvent(restaurantId));
+            return outdated.get();
+        }
+        log.debug("Menu snapshot of restaurant {} is missing, building", restaurantId);
+        return rebuild(restaurantId);
+    }
+
+    /**
+     * Rebuilds the snapshot unless it is already current or another transaction holds the
+     * restaurant's advisory lock, so a burst of refresh requests results in a single rebuild.
+     */
+    @Override
+    @Transactional
+    public void refresh(UUID restaurantId) {
+        if (!menuSnapshotRepository.tryLock(restaurantId)) {
+            log.debug("Menu snapshot of restaurant {} is being rebuilt elsewhere", restaurantId);
+            return;
+        }
+        if (menuSnapshotRepository.findCurrent(restaurantId).isPresent()) {
+            return;
+        }
+        rebuild(restaurantId);
+    }
+
+    @Override
+    @Transactional
+    public MenuSnapshot rebuild(UUID restaurantId) {
+        Restaurant restaurant = restaurantRepository.findById(restaurantId).orElseThrow(() -> {
+            log.warn("Restaurant not found with ID: {}", restaurantId);
+            return new ResourceNotFoundException("Restaurant not found");
+        });
+
+        byte[] document;
+        try {
+            document = objectMapper.writeValueAsBytes(restaurantMapper.toDto(restaurant));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        MenuSnapshot snapshot = MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(restaurant.getVersion())
+                .updatedAt(restaurant.getUpdatedAt())
+                .document(document)
+                .generatedAt(Instant.now())
+                .build();
+        menuSnapshotRepository.upsert(snapshot.getRestaurantId(), snapshot.getVersion(),
+                snapshot.getUpdatedAt(), snapshot.getDocument(), snapshot.getGeneratedAt());
+
+        log.debug("Menu snapshot rebuilt for restaurant: {} at version {} ({} bytes)",
+                restaurantId, snapshot.getVersion(), document.length);
+        return snapshot;
+    }
+}
@@ -1,17 +1,26 @@
 package v1.foodDeliveryPlatform.service.impl;
 
 import io.minio.*;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import v1.foodDeliveryPlatform.exception.ImageUploadException;
+import v1.foodDeliveryPlatform.model.ImageObject;
 import v1.foodDeliveryPlatform.model.ModelImage;
 import v1.foodDeliveryPlatform.props.MinioProperties;
 import v1.foodDeliveryPlatform.service.MinioService;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -63,18 +72,41 @@ public class MinioServiceImpl implements MinioService {
     }
 
     @Override
-    public byte[] getFile(String fileName) throws Exception {
+    public ImageObject statFile(String fileName) throws Exception {
+        log.debug("Getting file metadata from MinIO: {}", fileName);
+
+        try {
+            StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(fileName)
+                            .build()
+            );
+            log.trace("File metadata retrieved: {} (etag: {}, {} bytes)", fileName, stat.etag(), stat.size());
+            return ImageObject.builder()
+                    .name(fileName)
+                    .etag(stat.etag())
+                    .size(stat.size())
+                    .lastModified(stat.lastModified().toInstant())
+                    .build();
+        } catch (Exception e) {
+            log.error("Failed to get file metadata: {} from bucket: {}",
+                    fileName, minioProperties.getBucket(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openFile(String fileName) throws Exception {
         log.info("Getting file from MinIO: {}", fileName);
 
-        try (InputStream stream = minioClient.getObject(
-                GetObjectArgs.builder()
-                        .bucket(minioProperties.getBucket())
-                        .object(fileName)
-                        .build()
-        )) {
-            byte[] data = stream.readAllBytes();
-            log.debug("Successfully retrieved file: {} ({} bytes)", fileName, data.length);
-            return data;
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(fileName)
+                            .build()
+            );
         } catch (Exception e) {
             log.error("Failed to get file: {} from bucket: {}",
                     fileName, minioProperties.getBucket(), e);
@@ -82,6 +114,43 @@ public class MinioServiceImpl implements MinioService {
         }
     }
 
+    @Override
+    public List<ImageObject> listFiles(String startAfter, int limit) throws Exception {
+        log.debug("Listing up to {} files from MinIO after: {}", limit, startAfter);
+
+        ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(minioProperties.getBucket())
+                .recursive(true)
+                .maxKeys(limit);
+        if (startAfter != null) {
+            args.startAfter(startAfter);
+        }
+
+        List<ImageObject> files = new ArrayList<>(limit);
+        try {
+            for (Result<Item> result : minioClient.listObjects(args.build())) {
+                Item item = result.get();
+                if (item.isDir()) {
+                    continue;
+                }
+                files.add(ImageObject.builder()
+                        .name(item.objectName())
+                        .etag(item.etag())
+                        .size(item.size())
+                        .lastModified(item.lastModified().toInstant())
+                        .build());
+                if (files.size() >= limit) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to list files in bucket: {}", minioProperties.getBucket(), e);
+            throw e;
+        }
+        log.trace("Listed {} files", files.size());
+        return files;
+    }
+
     @Override
     public void deleteFile(String fileName) throws Exception {
         log.info("Deleting file from MinIO: {}", fileName);
@@ -101,6 +170,33 @@ public class MinioServiceImpl implements MinioService {
         }
     }
 
+    @Override
+    public Map<String, String> deleteFiles(Collection<String> fileNames) throws Exception {
+        log.info("Deleting {} files from MinIO", fileNames.size());
+
+        List<DeleteObject> objects = fileNames.stream().map(DeleteObject::new).toList();
+        Map<String, String> failures = new HashMap<>();
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .objects(objects)
+                            .build()
+            );
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                log.warn("Failed to delete file: {} - {}", error.objectName(), error.message());
+                failures.put(error.objectName(), error.message());
+            }
+        } catch (Exception e) {
+            log.error("Failed to delete {} files from bucket: {}",
+                    fileNames.size(), minioProperties.getBucket(), e);
+            throw e;
+        }
+        log.info("Deleted {} files ({} failed)", fileNames.size() - failures.size(), failures.size());
+        return failures;
+    }
+
     @SneakyThrows
     private void createBucket() {
         log.trace("Checking if bucket exists: {}", minioProperties.getBucket());
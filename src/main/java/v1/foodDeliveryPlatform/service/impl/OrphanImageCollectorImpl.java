@@ -0,0 +1,140 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import v1.foodDeliveryPlatform.model.ImageObject;
+import v1.foodDeliveryPlatform.props.ImageGcProperties;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.MinioService;
+import v1.foodDeliveryPlatform.service.OrphanImageCollector;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class OrphanImageCollectorImpl implements OrphanImageCollector {
+
+    private final MinioService minioService;
+    private final RestaurantRepository restaurantRepository;
+    private final ImageGcProperties properties;
+    private final Counter scanned;
+    private final Counter deleted;
+    private final Counter failed;
+    private final Timer runTimer;
+
+    private volatile String cursor;
+
+    public OrphanImageCollectorImpl(MinioService minioService,
+                                    RestaurantRepository restaurantRepository,
+                                    ImageGcProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.minioService = minioService;
+        this.restaurantRepository = restaurantRepository;
+        this.properties = properties;
+        this.scanned = meterRegistry.counter("image.gc.objects", "result", "scanned");
+        this.deleted = meterRegistry.counter("image.gc.objects", "result", "deleted");
+        this.failed = meterRegistry.counter("image.gc.objects", "result", "failed");
+        this.runTimer = meterRegistry.timer("image.gc.run");
+    }
+
+    @Scheduled(fixedDelayString = "${image-gc.interval:PT1H}", initialDelayString = "${image-gc.initial-delay:PT10M}")
+    public void scheduledCollect() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            runTimer.record(this::collect);
+        } catch (Exception e) {
+            log.error("Orphaned image collection failed", e);
+        }
+    }
+
+    /**
+     * Walks the bucket in key order, a page at a time, resuming where the previous run
+     * stopped. Each page is checked against the image tables with a single IN query, so
+     * memory stays bounded by the page size regardless of bucket or table size.
+     */
+    @Override
+    public int collect() {
+        Instant cutoff = Instant.now().minus(properties.getGracePeriod());
+        int deletedInRun = 0;
+
+        for (int page = 0; page < properties.getPagesPerRun(); page++) {
+            List<ImageObject> objects;
+            try {
+                objects = minioService.listFiles(cursor, properties.getPageSize());
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to list bucket objects", e);
+            }
+            scanned.increment(objects.size());
+
+            if (!objects.isEmpty()) {
+                deletedInRun += deleteOrphans(objects, cutoff, properties.getMaxDeletesPerRun() - deletedInRun);
+            }
+
+            if (objects.size() < properties.getPageSize()) {
+                log.debug("Reached end of bucket, next run starts from the beginning");
+                cursor = null;
+                break;
+            }
+            cursor = objects.getLast().getName();
+
+            if (deletedInRun >= properties.getMaxDeletesPerRun() || !pause()) {
+                break;
+            }
+        }
+
+        log.info("Orphaned image collection finished: {} objects deleted, resuming after: {}", deletedInRun, cursor);
+        return deletedInRun;
+    }
+
+    private int deleteOrphans(List<ImageObject> objects, Instant cutoff, int budget) {
+        List<String> candidates = objects.stream()
+                .filter(object -> object.getLastModified().isBefore(cutoff))
+                .map(ImageObject::getName)
+                .toList();
+        if (candidates.isEmpty() || budget <= 0) {
+            return 0;
+        }
+
+        Set<String> referenced = new HashSet<>(restaurantRepository.findReferencedImages(candidates));
+        List<String> orphans = candidates.stream()
+                .filter(name -> !referenced.contains(name))
+                .limit(budget)
+                .toList();
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+
+        log.debug("Deleting {} orphaned images", orphans.size());
+        Map<String, String> failures;
+        try {
+            failures = minioService.deleteFiles(orphans);
+        } catch (Exception e) {
+            log.warn("Failed to delete {} orphaned images", orphans.size(), e);
+            failed.increment(orphans.size());
+            return 0;
+        }
+        failed.increment(failures.size());
+        deleted.increment(orphans.size() - failures.size());
+        return orphans.size() - failures.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenPages());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
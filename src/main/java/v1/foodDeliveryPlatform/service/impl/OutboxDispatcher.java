@@ -0,0 +1,30 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import v1.foodDeliveryPlatform.props.OutboxProperties;
+import v1.foodDeliveryPlatform.service.OutboxService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        try {
+            int dispatched;
+            do {
+                dispatched = outboxService.dispatchBatch();
+            } while (dispatched == outboxProperties.getBatchSize());
+            outboxService.purgeDeadLetters();
+        } catch (Exception e) {
+            log.error("Outbox dispatch failed", e);
+        }
+    }
+}
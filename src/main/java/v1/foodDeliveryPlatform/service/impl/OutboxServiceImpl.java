@@ -0,0 +1,151 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import v1.foodDeliveryPlatform.model.OutboxEvent;
+import v1.foodDeliveryPlatform.model.enums.OutboxEventType;
+import v1.foodDeliveryPlatform.props.OutboxProperties;
+import v1.foodDeliveryPlatform.repository.OutboxEventRepository;
+import v1.foodDeliveryPlatform.service.MinioService;
+import v1.foodDeliveryPlatform.service.OutboxService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MinioService minioService;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deadLetters;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+                             MinioService minioService,
+                             OutboxProperties outboxProperties,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.minioService = minioService;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.deadLetters = meterRegistry.counter("outbox.events.dead");
+    }
+
+    @Override
+    @Transactional
+    public void enqueueImageDeletion(Collection<String> images) {
+        if (images == null || images.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<OutboxEvent> events = images.stream()
+                .distinct()
+                .map(image -> OutboxEvent.builder()
+                        .type(OutboxEventType.DELETE_IMAGE)
+                        .payload(image)
+                        .availableAt(now)
+                        .createdAt(now)
+                        .build())
+                .toList();
+        outboxEventRepository.saveAll(events);
+        log.debug("Enqueued deletion of {} images", events.size());
+    }
+
+    /**
+     * Claims a batch by pushing its {@code available_at} past the lease in one short transaction,
+     * calls MinIO with no transaction open, then settles the batch in a second one. Events of a
+     * dispatcher that dies mid-batch become due again once the lease runs out.
+     */
+    @Override
+    public int dispatchBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claimDueEvents());
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        log.debug("Dispatching {} outbox events", events.size());
+
+        Map<String, String> failures;
+        try {
+            failures = minioService.deleteFiles(events.stream().map(OutboxEvent::getPayload).toList());
+        } catch (Exception e) {
+            log.warn("Batch deletion of {} images failed, will retry", events.size(), e);
+            events.forEach(event -> reschedule(event, e.getMessage()));
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.saveAll(events));
+            return events.size();
+        }
+
+        List<OutboxEvent> completed = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            String error = failures.get(event.getPayload());
+            if (error == null) {
+                completed.add(event);
+            } else {
+                reschedule(event, error);
+                failed.add(event);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completed.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(completed.stream().map(OutboxEvent::getId).toList());
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.saveAll(failed);
+            }
+        });
+        log.info("Dispatched {} outbox events ({} failed)", completed.size(), failed.size());
+        return events.size();
+    }
+
+    @Override
+    @Transactional
+    public int purgeDeadLetters() {
+        int purged = outboxEventRepository.deleteDead(
+                outboxProperties.getMaxAttempts(), Instant.now().minus(outboxProperties.getDeadLetterRetention()));
+        if (purged > 0) {
+            log.info("Purged {} outbox events that ran out of attempts", purged);
+        }
+        return purged;
+    }
+
+    private List<OutboxEvent> claimDueEvents() {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.lockDueEvents(
+                now, outboxProperties.getMaxAttempts(), outboxProperties.getBatchSize());
+        Instant leaseUntil = now.plus(outboxProperties.getLease());
+        events.forEach(event -> event.setAvailableAt(leaseUntil));
+        return events;
+    }
+
+    private void reschedule(OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error);
+        event.setAvailableAt(Instant.now().plus(backoff(attempts)));
+        if (attempts >= outboxProperties.getMaxAttempts()) {
+            deadLetters.increment();
+            log.error("Giving up on outbox event {} ({} {}) after {} attempts: {}",
+                    event.getId(), event.getType(), event.getPayload(), attempts, error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = outboxProperties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(outboxProperties.getMaxBackoff()) > 0 ? outboxProperties.getMaxBackoff() : backoff;
+    }
+}
@@ -0,0 +1,151 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import v1.foodDeliveryPlatform.model.Suggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * Case-folded prefix index over names. Every word start of a name is a key,
+ * so "bel" finds "La Bella Italia". Keys are kept sorted, so a lookup is a
+ * range scan that stops after {@code limit} distinct hits.
+ */
+final class PrefixIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final int MAX_WORDS_PER_NAME = 8;
+
+    private final ConcurrentSkipListMap<String, Suggestion> entries = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String[]> keysById = new ConcurrentHashMap<>();
+
+    void put(Suggestion suggestion) {
+        keysById.compute(suggestion.getId(), (id, previousKeys) -> {
+            if (previousKeys != null) {
+                for (String key : previousKeys) {
+                    entries.remove(key);
+                }
+            }
+            String[] keys = keysFor(suggestion);
+            for (String key : keys) {
+                entries.put(key, suggestion);
+            }
+            return keys;
+        });
+    }
+
+    void remove(UUID id) {
+        keysById.computeIfPresent(id, (key, keys) -> {
+            for (String entryKey : keys) {
+                entries.remove(entryKey);
+            }
+            return null;
+        });
+    }
+
+    void removeIf(Predicate<Suggestion> predicate) {
+        entries.values().stream()
+                .filter(predicate)
+                .map(Suggestion::getId)
+                .distinct()
+                .toList()
+                .forEach(this::remove);
+    }
+
+    List<Suggestion> find(String prefix, int limit) {
+        String folded = fold(prefix);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Suggestion> result = new ArrayList<>(limit);
+        for (Map.Entry<String, Suggestion> entry : entries.tailMap(folded, true).entrySet()) {
+            if (!entry.getKey().startsWith(folded)) {
+                break;
+            }
+            Suggestion suggestion = entry.getValue();
+            if (!containsId(result, suggestion.getId())) {
+                result.add(suggestion);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return keysById.size();
+    }
+
+    /**
+     * Already folded input, the common case for typed prefixes, is returned as is.
+     */
+    static String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (isFolded(value)) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(foldChar(c));
+        }
+        return builder.toString();
+    }
+
+    private static boolean isFolded(String value) {
+        int last = value.length() - 1;
+        for (int i = 0; i <= last; i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (c != ' ' || i == 0 || i == last || value.charAt(i - 1) == ' ') {
+                    return false;
+                }
+            } else if (foldChar(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char foldChar(char c) {
+        char lower = Character.toLowerCase(c);
+        return lower == 'ё' ? 'е' : lower;
+    }
+
+    private static String[] keysFor(Suggestion suggestion) {
+        String folded = fold(suggestion.getName());
+        String suffix = ID_SEPARATOR + suggestion.getId().toString();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < folded.length() && keys.size() < MAX_WORDS_PER_NAME; i++) {
+            if (i == 0 || folded.charAt(i - 1) == ' ') {
+                keys.add(folded.substring(i) + suffix);
+            }
+        }
+        return keys.toArray(String[]::new);
+    }
+
+    private static boolean containsId(List<Suggestion> suggestions, UUID id) {
+        for (Suggestion suggestion : suggestions) {
+            if (suggestion.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.Quote;
+import v1.foodDeliveryPlatform.model.QuoteItem;
+import v1.foodDeliveryPlatform.model.QuoteLine;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.service.QuoteService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteServiceImpl implements QuoteService {
+
+    private final DishRepository dishRepository;
+
+    /**
+     * Prices the items from a single query scoped to the restaurant; dishes that do not
+     * exist or belong to another restaurant fail the whole quote.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Quote quote(UUID restaurantId, List<QuoteItem> items) {
+        Set<UUID> ids = items.stream().map(QuoteItem::getDishId).collect(Collectors.toSet());
+        Map<UUID, DishSummary> dishes = dishRepository.findSummariesByRestaurantIdAndIdIn(restaurantId, ids).stream()
+                .collect(Collectors.toMap(DishSummary::getId, Function.identity()));
+
+        List<UUID> unknown = ids.stream().filter(id -> !dishes.containsKey(id)).sorted().toList();
+        if (!unknown.isEmpty()) {
+            log.warn("Quote for restaurant {} references unknown dishes: {}", restaurantId, unknown);
+            throw new IllegalArgumentException("Dishes not found in restaurant: " + unknown);
+        }
+
+        List<QuoteLine> lines = new ArrayList<>(items.size());
+        long total = 0;
+        for (QuoteItem item : items) {
+            DishSummary dish = dishes.get(item.getDishId());
+            long lineTotal = Math.multiplyExact(dish.getPriceMinor(), item.getQuantity());
+            lines.add(QuoteLine.builder()
+                    .dishId(dish.getId())
+                    .name(dish.getName())
+                    .unitPriceMinor(dish.getPriceMinor())
+                    .quantity(item.getQuantity())
+                    .lineTotalMinor(lineTotal)
+                    .build());
+            total = Math.addExact(total, lineTotal);
+        }
+
+        return Quote.builder()
+                .restaurantId(restaurantId)
+                .lines(lines)
+                .totalMinor(total)
+                .priceVersion(priceVersion(restaurantId, dishes.values()))
+                .build();
+    }
+
+    private String priceVersion(UUID restaurantId, Collection<DishSummary> dishes) {
+        StringBuilder source = new StringBuilder(restaurantId.toString());
+        dishes.stream()
+                .sorted(Comparator.comparing(DishSummary::getId))
+                .forEach(dish -> source.append('|').append(dish.getId()).append(':').append(dish.getVersion()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
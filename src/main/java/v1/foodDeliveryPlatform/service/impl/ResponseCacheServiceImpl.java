@@ -0,0 +1,155 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import v1.foodDeliveryPlatform.model.EncodedBody;
+import v1.foodDeliveryPlatform.props.ResponseCacheProperties;
+import v1.foodDeliveryPlatform.service.ResponseCacheService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps encoded JSON bodies in Redis under keys that contain the resource version, so an
+ * entry never needs invalidation: a write changes the version and thereby the key, and
+ * the old entry simply expires. Gzip variants are stored separately, so compression is
+ * paid once per version instead of once per request.
+ */
+@Service
+@Slf4j
+public class ResponseCacheServiceImpl implements ResponseCacheService {
+
+    private static final String KEY_PREFIX = "response:";
+    private static final String GZIP_SUFFIX = ":gzip";
+
+    private final RedisTemplate<String, byte[]> responseCacheTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheServiceImpl(RedisTemplate<String, byte[]> responseCacheTemplate,
+                                    ObjectMapper objectMapper,
+                                    ResponseCacheProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.responseCacheTemplate = responseCacheTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.hits = meterRegistry.counter("response.cache", "result", "hit");
+        this.misses = meterRegistry.counter("response.cache", "result", "miss");
+    }
+
+    /**
+     * Returns the cached bytes for the key, or renders the body. A rendered body is only
+     * stored when it matches the version in the key, which guards against caching a stale
+     * entity under a newer version.
+     */
+    @Override
+    public <T> EncodedBody getOrRender(String key, boolean gzip, Supplier<T> body, Predicate<T> matchesKey) {
+        if (!properties.isEnabled()) {
+            return encode(render(body.get()), gzip);
+        }
+
+        String cacheKey = cacheKey(key, gzip);
+        byte[] cached = read(cacheKey);
+        if (cached != null) {
+            hits.increment();
+            return new EncodedBody(cached, isGzip(cached));
+        }
+        misses.increment();
+
+        T value = body.get();
+        EncodedBody encoded = encode(render(value), gzip);
+        if (matchesKey.test(value)) {
+            write(cacheKey, encoded.content());
+        } else {
+            log.debug("Rendered body does not match cache key {}, not caching", cacheKey);
+        }
+        return encoded;
+    }
+
+    /**
+     * Compresses an already serialized body once per key. Plain bodies are returned as is,
+     * since they need no work.
+     */
+    @Override
+    public EncodedBody getOrEncode(String key, boolean gzip, Supplier<byte[]> body) {
+        if (!gzip || !properties.isEnabled()) {
+            return encode(body.get(), gzip);
+        }
+
+        String cacheKey = cacheKey(key, true);
+        byte[] cached = read(cacheKey);
+        if (cached != null) {
+            hits.increment();
+            return new EncodedBody(cached, isGzip(cached));
+        }
+        misses.increment();
+
+        EncodedBody encoded = encode(body.get(), true);
+        write(cacheKey, encoded.content());
+        return encoded;
+    }
+
+    private String cacheKey(String key, boolean gzip) {
+        return KEY_PREFIX + key + (gzip ? GZIP_SUFFIX : "");
+    }
+
+    private byte[] render(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Bodies below the threshold stay plain even for gzip clients; the gzip header and
+     * trailer would outweigh the savings.
+     */
+    private EncodedBody encode(byte[] json, boolean gzip) {
+        if (!gzip || json.length < properties.getGzipMinSize().toBytes()) {
+            return new EncodedBody(json, false);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream compressed = new GZIPOutputStream(out)) {
+            compressed.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new EncodedBody(out.toByteArray(), true);
+    }
+
+    private static boolean isGzip(byte[] content) {
+        return content.length > 1
+                && content[0] == (byte) (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && content[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    private byte[] read(String cacheKey) {
+        try {
+            return responseCacheTemplate.opsForValue().get(cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read response cache entry {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private void write(String cacheKey, byte[] bytes) {
+        try {
+            responseCacheTemplate.opsForValue().set(cacheKey, bytes, properties.getTtl());
+        } catch (RuntimeException e) {
+            log.warn("Failed to write response cache entry {}", cacheKey, e);
+        }
+    }
+}
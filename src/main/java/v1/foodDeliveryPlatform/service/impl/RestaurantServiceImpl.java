@@ -5,20 +5,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.model.CuisineCount;
+import v1.foodDeliveryPlatform.model.ImageMetadata;
 import v1.foodDeliveryPlatform.model.ModelImage;
+import v1.foodDeliveryPlatform.model.NearbyRestaurant;
+import v1.foodDeliveryPlatform.model.ResourceState;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
 import v1.foodDeliveryPlatform.model.enums.Cuisine;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
 import v1.foodDeliveryPlatform.model.feign.RestaurantClient;
 import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.AutocompleteService;
 import v1.foodDeliveryPlatform.service.MinioService;
+import v1.foodDeliveryPlatform.service.OutboxService;
 import v1.foodDeliveryPlatform.service.RestaurantService;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -26,8 +36,13 @@ import java.util.UUID;
 @Slf4j
 public class RestaurantServiceImpl implements RestaurantService {
 
+    static final double MAX_NEARBY_RADIUS = 50_000d;
+
     private final RestaurantRepository restaurantRepository;
     private final MinioService minioService;
+    private final AutocompleteService autocompleteService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -42,13 +57,48 @@ public class RestaurantServiceImpl implements RestaurantService {
         return restaurant;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceState getState(UUID id) {
+        return restaurantRepository.findStateById(id).orElseThrow(() -> {
+            log.warn("Restaurant not found with ID: {}", id);
+            return new ResourceNotFoundException("Restaurant not found");
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceState getCollectionState() {
+        return restaurantRepository.findCollectionState();
+    }
+
+    /**
+     * Bumps the version of a restaurant whose dishes changed, so that its representation,
+     * which embeds the menu, gets a new entity tag.
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "restaurants", key = "#id"),
+            @CacheEvict(value = "all_restaurants", allEntries = true),
+            @CacheEvict(value = "restaurants_by_cuisine", allEntries = true),
+    })
+    public void markModified(UUID id) {
+        log.debug("Marking restaurant as modified: {}", id);
+        restaurantRepository.touch(id);
+        eventPublisher.publishEvent(new MenuChangedEvent(id));
+    }
+
     @Override
     @Transactional
     public Restaurant createRestaurant(Restaurant restaurant) {
-        isRestaurantCuisineExists(restaurant.getCuisine());
+        restaurant.setCuisine(normalizeCuisine(restaurant.getCuisine()));
+        restaurant.setGeohash(geohashOf(restaurant.getLatitude(), restaurant.getLongitude()));
         log.info("Creating new restaurant: {}", restaurant.getName());
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        autocompleteService.indexRestaurant(savedRestaurant);
         log.info("Restaurant created successfully: {} ({})", savedRestaurant.getName(), savedRestaurant.getId());
+        eventPublisher.publishEvent(new MenuChangedEvent(savedRestaurant.getId()));
         return savedRestaurant;
     }
 
@@ -65,11 +115,68 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Transactional
     public List<Restaurant> getAllByCuisine(String cuisine) {
         log.debug("Fetching restaurants by cuisine: {}", cuisine);
-        List<Restaurant> restaurants = restaurantRepository.findAllByCuisine(cuisine);
-        log.debug("Found {} restaurants with cuisine: {}", restaurants.size(), cuisine);
+        Optional<Cuisine> resolved = Cuisine.fromValue(cuisine);
+        if (resolved.isEmpty()) {
+            log.debug("Unknown cuisine requested: {}", cuisine);
+            return List.of();
+        }
+        List<Restaurant> restaurants = restaurantRepository.findAllByCuisine(resolved.get().name());
+        log.debug("Found {} restaurants with cuisine: {}", restaurants.size(), resolved.get());
         return restaurants;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Restaurant> search(String query, int page, int size) {
+        String normalized = SearchSupport.normalizeQuery(query);
+        log.debug("Searching restaurants by query: '{}' (page: {}, size: {})", normalized, page, size);
+        Page<Restaurant> restaurants = restaurantRepository.search(normalized, SearchSupport.pageRequest(page, size));
+        log.debug("Found {} restaurants matching query: '{}'", restaurants.getTotalElements(), normalized);
+        return restaurants;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NearbyRestaurant> findNearby(double latitude, double longitude, double radius, int page, int size) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        if (radius <= 0 || radius > MAX_NEARBY_RADIUS) {
+            throw new IllegalArgumentException(
+                    String.format("Radius must be between 0 and %.0f meters", MAX_NEARBY_RADIUS));
+        }
+        String cells = String.join(",", GeoHash.coveringCells(latitude, longitude, radius));
+        log.debug("Searching restaurants within {} m of ({}, {}) in cells [{}]", radius, latitude, longitude, cells);
+        Page<NearbyRestaurant> restaurants = restaurantRepository
+                .findNearby(latitude, longitude, radius, cells, SearchSupport.pageRequest(page, size))
+                .map(view -> NearbyRestaurant.builder()
+                        .id(view.getId())
+                        .name(view.getName())
+                        .cuisine(view.getCuisine())
+                        .address(view.getAddress())
+                        .latitude(view.getLatitude())
+                        .longitude(view.getLongitude())
+                        .distance(view.getDistance())
+                        .build());
+        log.debug("Found {} restaurants within {} m", restaurants.getTotalElements(), radius);
+        return restaurants;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CuisineCount> getCuisineCounts() {
+        log.debug("Counting restaurants per cuisine");
+        List<CuisineCount> counts = restaurantRepository.countByCuisine();
+        counts.forEach(count -> count.setName(Cuisine.fromValue(count.getCuisine())
+                .map(Cuisine::getName)
+                .orElse(count.getCuisine())));
+        log.debug("Found {} cuisines with restaurants", counts.size());
+        return counts;
+    }
+
     @Override
     @Transactional
     public boolean existsRestaurant(UUID id) {
@@ -80,28 +187,42 @@ public class RestaurantServiceImpl implements RestaurantService {
     }
 
     @Override
-    @Transactional
     @Caching(evict = {
             @CacheEvict(value = "restaurants", key = "#id"),
-            @CacheEvict(value = "restaurants", allEntries = true)
+            @CacheEvict(value = "all_restaurants", allEntries = true),
+            @CacheEvict(value = "restaurants_by_cuisine", allEntries = true)
     })
-    public Restaurant uploadImage(final UUID id, final ModelImage image) {
+    public Restaurant uploadImage(final UUID id, final ModelImage image, final Long expectedVersion) {
         log.info("Uploading image for dish: {}", id);
 
         Restaurant restaurant = getById(id);
+        Versions.check(expectedVersion, restaurant.getVersion());
         log.debug("Restaurant found: {} with {} existing images", restaurant.getName(), restaurant.getImages().size());
 
+        ImageMetadata metadata = ImageMetadataReader.read(image.getFile());
         String fileName = minioService.upload(image);
         log.debug("Image uploaded to MinIO: {}", fileName);
 
-        List<String> images = new ArrayList<>(restaurant.getImages());
-        images.add(fileName);
-        restaurant.setImages(images);
+        int position = restaurant.getImages().stream().mapToInt(RestaurantImage::getPosition).max().orElse(-1) + 1;
+        restaurant.getImages().add(RestaurantImage.builder()
+                .restaurantId(restaurant.getId())
+                .name(fileName)
+                .position(position)
+                .metadata(metadata)
+                .build());
 
-        Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        Restaurant updatedRestaurant;
+        try {
+            updatedRestaurant = restaurantRepository.save(restaurant);
+        } catch (RuntimeException e) {
+            log.warn("Failed to attach image {} to restaurant: {}, scheduling its deletion", fileName, id);
+            outboxService.enqueueImageDeletion(List.of(fileName));
+            throw e;
+        }
         log.info("Image uploaded successfully for restaurant: {} (total images: {})",
                 updatedRestaurant.getName(), updatedRestaurant.getImages().size());
 
+        eventPublisher.publishEvent(new MenuChangedEvent(updatedRestaurant.getId()));
         return updatedRestaurant;
     }
 
@@ -125,23 +246,29 @@ public class RestaurantServiceImpl implements RestaurantService {
             @CacheEvict(value = "restaurants_by_cuisine", allEntries = true),
     })
     public Restaurant updateRestaurant(Restaurant restaurant) {
-        isRestaurantCuisineExists(restaurant.getCuisine());
+        String cuisine = normalizeCuisine(restaurant.getCuisine());
         log.info("Updating restaurant with ID: {}", restaurant.getId());
 
         Restaurant currentRestaurant = getById(restaurant.getId());
+        Versions.check(restaurant.getVersion(), currentRestaurant.getVersion());
 
         log.debug("Restaurant update details - Name: {} -> {}, Cuisine: {} -> {}, Address: {} -> {}",
                 currentRestaurant.getName(), restaurant.getName(),
-                currentRestaurant.getCuisine(), restaurant.getCuisine(),
+                currentRestaurant.getCuisine(), cuisine,
                 currentRestaurant.getAddress(), restaurant.getAddress());
 
         currentRestaurant.setName(restaurant.getName());
         currentRestaurant.setAddress(restaurant.getAddress());
-        currentRestaurant.setCuisine(restaurant.getCuisine());
+        currentRestaurant.setCuisine(cuisine);
+        currentRestaurant.setLatitude(restaurant.getLatitude());
+        currentRestaurant.setLongitude(restaurant.getLongitude());
+        currentRestaurant.setGeohash(geohashOf(restaurant.getLatitude(), restaurant.getLongitude()));
 
         Restaurant updatedRestaurant = restaurantRepository.save(currentRestaurant);
+        autocompleteService.indexRestaurant(updatedRestaurant);
         log.info("Restaurant updated successfully: {} ({})", updatedRestaurant.getName(), updatedRestaurant.getId());
 
+        eventPublisher.publishEvent(new MenuChangedEvent(updatedRestaurant.getId()));
         return updatedRestaurant;
     }
 
@@ -155,8 +282,16 @@ public class RestaurantServiceImpl implements RestaurantService {
     public void delete(UUID id) {
         log.info("Deleting restaurant with ID: {}", id);
         try {
+            restaurantRepository.findById(id).ifPresent(restaurant -> {
+                List<String> images = new ArrayList<>();
+                restaurant.getImages().forEach(image -> images.add(image.getName()));
+                restaurant.getDishes().forEach(dish -> dish.getImages().forEach(image -> images.add(image.getName())));
+                log.debug("Scheduling deletion of {} images for restaurant: {}", images.size(), id);
+                outboxService.enqueueImageDeletion(images);
+            });
             restaurantRepository.deleteImagesByRestaurantId(id);
             restaurantRepository.deleteById(id);
+            autocompleteService.removeRestaurant(id);
             log.info("Restaurant deleted successfully: {}", id);
         } catch (Exception e) {
             log.error("Failed to delete restaurant with ID: {}", id, e);
@@ -164,15 +299,23 @@ public class RestaurantServiceImpl implements RestaurantService {
         }
     }
 
-    private void isRestaurantCuisineExists(String cuisine) {
-        boolean isValid = Cuisine.isValidCuisine(cuisine);
-
-        if (!isValid) {
-            throw new IllegalArgumentException(
-                    String.format("Invalid cuisine '%s'. Allowed values: %s",
-                            cuisine,
-                            String.join(", ", Cuisine.getNames()))
-            );
+    private String geohashOf(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("Latitude and longitude must be provided together");
         }
+        return GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+    }
+
+    private String normalizeCuisine(String cuisine) {
+        return Cuisine.fromValue(cuisine)
+                .map(Cuisine::name)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        String.format("Invalid cuisine '%s'. Allowed values: %s",
+                                cuisine,
+                                String.join(", ", Cuisine.getNames()))
+                ));
     }
 }
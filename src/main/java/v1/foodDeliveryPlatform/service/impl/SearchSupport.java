@@ -0,0 +1,36 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+final class SearchSupport {
+
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MAX_PAGE_SIZE = 50;
+
+    private SearchSupport() {
+    }
+
+    static String normalizeQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must be not blank");
+        }
+        String normalized = query.trim().replaceAll("\\s+", " ");
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("Search query must be smaller %d characters", MAX_QUERY_LENGTH));
+        }
+        return normalized;
+    }
+
+    static Pageable pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be greater or equal 0");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+        return PageRequest.of(page, size);
+    }
+}
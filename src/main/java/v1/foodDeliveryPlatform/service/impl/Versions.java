@@ -0,0 +1,16 @@
+package v1.foodDeliveryPlatform.service.impl;
+
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
+
+final class Versions {
+
+    private Versions() {
+    }
+
+    static void check(Long expected, Long actual) {
+        if (expected != null && !expected.equals(actual)) {
+            throw new PreconditionFailedException(
+                    String.format("Resource has been modified, current version is %d", actual));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private final Instant now = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Test
+    void decode_SameToken_VerifiedOnce() {
+        Jwt jwt = jwt("a", now.plus(Duration.ofMinutes(10)));
+        when(delegate.decode("a")).thenReturn(jwt);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertSame(jwt, decoder.decode("a"));
+        assertSame(jwt, decoder.decode("a"));
+
+        verify(delegate, times(1)).decode("a");
+    }
+
+    @Test
+    void decode_ExpiredEntry_DecodesAgain() {
+        MutableClock clock = new MutableClock(now);
+        when(delegate.decode("a")).thenReturn(jwt("a", now.plus(Duration.ofMinutes(1))));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clock);
+
+        decoder.decode("a");
+        clock.instant = now.plus(Duration.ofMinutes(2));
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void decode_InvalidToken_NotCached() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("bad signature"));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    void decode_TokenWithoutExpiry_NotCached() {
+        when(delegate.decode("a")).thenReturn(jwt("a", null));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(now, ZoneOffset.UTC));
+
+        decoder.decode("a");
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+    }
+
+    @Test
+    void decode_FullCache_StaysBounded() {
+        when(delegate.decode(anyString())).thenAnswer(invocation ->
+                jwt(invocation.getArgument(0), now.plus(Duration.ofMinutes(10))));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, Clock.fixed(now, ZoneOffset.UTC));
+
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("c");
+
+        assertEquals(2, decoder.size());
+    }
+
+    private Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("user")
+                .issuedAt(now.minus(Duration.ofMinutes(1)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorsConfigurationTest {
+
+    private final CorsConfiguration configuration = new AppConfig(null, null)
+            .corsConfigurationSource()
+            .getCorsConfiguration(new MockHttpServletRequest("OPTIONS", "/api/v1/dishes/d1"));
+
+    @Test
+    void allowsConditionalRequestHeaders() {
+        assertNotNull(configuration);
+        assertEquals(List.of(HttpHeaders.IF_MATCH, HttpHeaders.IF_NONE_MATCH),
+                configuration.checkHeaders(List.of(HttpHeaders.IF_MATCH, HttpHeaders.IF_NONE_MATCH)));
+    }
+
+    @Test
+    void exposesValidatorHeaders() {
+        assertNotNull(configuration);
+        assertTrue(configuration.getExposedHeaders().containsAll(
+                List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED)));
+    }
+}
@@ -0,0 +1,53 @@
+package v1.foodDeliveryPlatform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingProperties;
+import v1.foodDeliveryPlatform.props.CatalogExportProperties;
+import v1.foodDeliveryPlatform.props.DataSourcePoolProperties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceConfigTest {
+
+    @Test
+    void maximumPoolSize_DerivedFromCoresAndReservedConnections() {
+        DataSourcePoolProperties pool = new DataSourcePoolProperties();
+
+        assertEquals(23, DataSourceConfig.maximumPoolSize(pool, 8, 6));
+        assertEquals(39, DataSourceConfig.maximumPoolSize(pool, 16, 6));
+    }
+
+    @Test
+    void maximumPoolSize_NeverBelowFloor() {
+        DataSourcePoolProperties pool = new DataSourcePoolProperties();
+
+        assertEquals(20, DataSourceConfig.maximumPoolSize(pool, 2, 6));
+        assertEquals(20, DataSourceConfig.maximumPoolSize(pool, 1, 0));
+    }
+
+    @Test
+    void maximumPoolSize_ExplicitSizeWins() {
+        DataSourcePoolProperties pool = new DataSourcePoolProperties();
+        pool.setMaxSize(30);
+
+        assertEquals(30, DataSourceConfig.maximumPoolSize(pool, 4, 6));
+    }
+
+    @Test
+    void dataSource_BuildsHikariPoolWithoutConnecting() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:postgresql://localhost:5432/restaurants");
+        properties.setUsername("restaurants");
+        DataSourcePoolProperties pool = new DataSourcePoolProperties();
+        pool.setMaxSize(7);
+
+        try (HikariDataSource dataSource = new DataSourceConfig().dataSource(
+                properties, pool, new CatalogExportProperties(), new TaskSchedulingProperties())) {
+            assertEquals("jdbc:postgresql://localhost:5432/restaurants", dataSource.getJdbcUrl());
+            assertEquals(7, dataSource.getMaximumPoolSize());
+            assertFalse(dataSource.isRunning());
+        }
+    }
+}
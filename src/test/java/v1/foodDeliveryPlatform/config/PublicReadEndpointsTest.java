@@ -0,0 +1,38 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PublicReadEndpointsTest {
+
+    private final RequestMatcher matcher = AppConfig.publicReadEndpoints();
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /api/v1/restaurants, true",
+            "GET, /api/v1/restaurants/0b6b6d0e-6f4e-4a4b-9a43-6c5d7d7c2f10, true",
+            "GET, /api/v1/restaurants/cuisine/counts, true",
+            "GET, /api/v1/restaurants/r1/menu, true",
+            "GET, /api/v1/restaurants/r1/dishes, true",
+            "GET, /api/v1/restaurants/r1/images/photo.jpg, true",
+            "GET, /api/v1/dishes/d1, true",
+            "GET, /api/v1/dishes/d1/images, true",
+            "GET, /api/v1/catalog/changes, true",
+            "GET, /api/v1/restaurants/r1/exists, false",
+            "GET, /api/v1/restaurants/r1/dishes/d1/exists, false",
+            "GET, /api/v1/restaurants/r1/name, false",
+            "GET, /api/v1/dishes/d1/name, false",
+            "GET, /api/v1/catalog/export, false",
+            "POST, /api/v1/restaurants, false",
+            "DELETE, /api/v1/dishes/d1, false"
+    })
+    void matchesOnlyAnonymousReads(String method, String path, boolean expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+
+        assertEquals(expected, matcher.matches(request));
+    }
+}
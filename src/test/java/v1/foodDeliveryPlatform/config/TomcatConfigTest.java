@@ -0,0 +1,65 @@
+package v1.foodDeliveryPlatform.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.Http2;
+import v1.foodDeliveryPlatform.props.Http2Properties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TomcatConfigTest {
+
+    private TomcatWebServer webServer;
+
+    @AfterEach
+    void tearDown() {
+        if (webServer != null) {
+            webServer.stop();
+        }
+    }
+
+    @Test
+    void http2Customizer_ServesH2cWithTunedStreams() throws Exception {
+        Http2Properties properties = new Http2Properties();
+        properties.setMaxConcurrentStreams(321);
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        factory.setHttp2(http2);
+        new TomcatConfig().http2Customizer(properties).customize(factory);
+
+        webServer = (TomcatWebServer) factory.getWebServer(servletContext ->
+                servletContext.addServlet("exists", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        response.getWriter().write("true");
+                    }
+                }).addMapping("/exists"));
+        webServer.start();
+
+        Http2Protocol protocol = (Http2Protocol) webServer.getTomcat().getConnector().findUpgradeProtocols()[0];
+        assertEquals(321, protocol.getMaxConcurrentStreams());
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        URI uri = URI.create("http://localhost:" + webServer.getPort() + "/exists");
+        client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+        assertEquals("true", response.body());
+    }
+}
@@ -0,0 +1,57 @@
+package v1.foodDeliveryPlatform.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import v1.foodDeliveryPlatform.props.WebAsyncProperties;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebAsyncConfigTest {
+
+    @Test
+    void platformExecutor_StartsAsManyThreadsAsTheConnector() {
+        WebAsyncProperties properties = new WebAsyncProperties();
+        properties.setQueueCapacity(10);
+
+        ThreadPoolTaskExecutor executor = WebAsyncConfig.platformExecutor(properties, 200);
+        try {
+            assertEquals(200, executor.getCorePoolSize());
+            assertEquals(200, executor.getMaxPoolSize());
+            assertEquals(10, executor.getQueueCapacity());
+            assertTrue(executor.getThreadNamePrefix().startsWith("mvc-async"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void platformExecutor_ExplicitPoolSizeWins() {
+        WebAsyncProperties properties = new WebAsyncProperties();
+        properties.setPoolSize(16);
+
+        ThreadPoolTaskExecutor executor = WebAsyncConfig.platformExecutor(properties, 200);
+        try {
+            assertEquals(16, executor.getCorePoolSize());
+            assertEquals(16, executor.getMaxPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void virtualExecutor_RunsTasksOnVirtualThreads() throws Exception {
+        SimpleAsyncTaskExecutor executor = WebAsyncConfig.virtualExecutor();
+        try {
+            CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+            executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+
+            assertTrue(virtual.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package v1.foodDeliveryPlatform.grpc;
+
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import v1.foodDeliveryPlatform.dto.model.feign.RestaurantClientDto;
+import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.facade.DishFacade;
+import v1.foodDeliveryPlatform.facade.RestaurantFacade;
+import v1.foodDeliveryPlatform.grpc.api.CatalogLookupGrpc;
+import v1.foodDeliveryPlatform.grpc.api.DishLookupReply;
+import v1.foodDeliveryPlatform.grpc.api.DishLookupRequest;
+import v1.foodDeliveryPlatform.grpc.api.PriceCheck;
+import v1.foodDeliveryPlatform.grpc.api.PriceValidationReply;
+import v1.foodDeliveryPlatform.grpc.api.PriceValidationRequest;
+import v1.foodDeliveryPlatform.grpc.api.RestaurantLookupReply;
+import v1.foodDeliveryPlatform.grpc.api.RestaurantLookupRequest;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.props.GrpcProperties;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogLookupGrpcServiceTest {
+
+    @Mock
+    private RestaurantFacade restaurantFacade;
+
+    @Mock
+    private DishFacade dishFacade;
+
+    @Mock
+    private JwtDecoder jwtDecoder;
+
+    private final GrpcProperties properties = new GrpcProperties();
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID dishId = UUID.randomUUID();
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(
+                        new CatalogLookupGrpcService(restaurantFacade, dishFacade, properties),
+                        new JwtServerInterceptor(jwtDecoder)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void lookupRestaurant_Found() {
+        authorize();
+        when(restaurantFacade.getNameById(restaurantId)).thenReturn(new RestaurantClientDto("Pasta Place"));
+
+        RestaurantLookupReply reply = stub("token").lookupRestaurant(RestaurantLookupRequest.newBuilder()
+                .setRestaurantId(UuidBytes.of(restaurantId))
+                .build());
+
+        assertTrue(reply.getFound());
+        assertEquals("Pasta Place", reply.getName());
+    }
+
+    @Test
+    void lookupRestaurant_NotFound() {
+        authorize();
+        when(restaurantFacade.getNameById(restaurantId)).thenThrow(new ResourceNotFoundException("Restaurant not found"));
+
+        RestaurantLookupReply reply = stub("token").lookupRestaurant(RestaurantLookupRequest.newBuilder()
+                .setRestaurantId(UuidBytes.of(restaurantId))
+                .build());
+
+        assertFalse(reply.getFound());
+    }
+
+    @Test
+    void lookupDishes_ReturnsExistingDishes() {
+        authorize();
+        when(dishFacade.getSummaries(Set.of(dishId))).thenReturn(List.of(summary(new BigDecimal("15.99"))));
+
+        DishLookupReply reply = stub("token").lookupDishes(DishLookupRequest.newBuilder()
+                .addDishIds(UuidBytes.of(dishId))
+                .addDishIds(UuidBytes.of(dishId))
+                .build());
+
+        assertEquals(1, reply.getDishesCount());
+        assertEquals(1599, reply.getDishes(0).getPriceMinor());
+        assertEquals(UuidBytes.of(restaurantId), reply.getDishes(0).getRestaurantId());
+    }
+
+    @Test
+    void validatePrices_ReportsChangedAndMissingDishes() {
+        authorize();
+        UUID missingId = UUID.randomUUID();
+        when(dishFacade.getSummaries(any())).thenReturn(List.of(summary(new BigDecimal("17.50"))));
+
+        PriceValidationReply reply = stub("token").validatePrices(PriceValidationRequest.newBuilder()
+                .setRestaurantId(UuidBytes.of(restaurantId))
+                .addItems(PriceCheck.newBuilder().setDishId(UuidBytes.of(dishId)).setPriceMinor(1599))
+                .addItems(PriceCheck.newBuilder().setDishId(UuidBytes.of(missingId)).setPriceMinor(100))
+                .build());
+
+        assertFalse(reply.getValid());
+        assertEquals(2, reply.getMismatchesCount());
+        assertTrue(reply.getMismatches(0).getFound());
+        assertEquals(1750, reply.getMismatches(0).getCurrentPriceMinor());
+        assertFalse(reply.getMismatches(1).getFound());
+    }
+
+    @Test
+    void validatePrices_DishOfOtherRestaurant_Invalid() {
+        authorize();
+        when(dishFacade.getSummaries(any())).thenReturn(List.of(summary(new BigDecimal("15.99"))));
+
+        PriceValidationReply reply = stub("token").validatePrices(PriceValidationRequest.newBuilder()
+                .setRestaurantId(UuidBytes.of(UUID.randomUUID()))
+                .addItems(PriceCheck.newBuilder().setDishId(UuidBytes.of(dishId)).setPriceMinor(1599))
+                .build());
+
+        assertFalse(reply.getValid());
+        assertFalse(reply.getMismatches(0).getFound());
+    }
+
+    @Test
+    void lookupDishes_MalformedId_InvalidArgument() {
+        authorize();
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub("token").lookupDishes(DishLookupRequest.newBuilder()
+                        .addDishIds(ByteString.copyFromUtf8("short"))
+                        .build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verifyNoInteractions(dishFacade);
+    }
+
+    @Test
+    void call_WithoutToken_Unauthenticated() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> CatalogLookupGrpc.newBlockingStub(channel).lookupRestaurant(RestaurantLookupRequest.newBuilder()
+                        .setRestaurantId(UuidBytes.of(restaurantId))
+                        .build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(restaurantFacade);
+    }
+
+    @Test
+    void call_WithInvalidToken_Unauthenticated() {
+        when(jwtDecoder.decode("bad")).thenThrow(new BadJwtException("bad signature"));
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub("bad").lookupRestaurant(RestaurantLookupRequest.newBuilder()
+                        .setRestaurantId(UuidBytes.of(restaurantId))
+                        .build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+    }
+
+    private void authorize() {
+        when(jwtDecoder.decode("token")).thenReturn(Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("order-service")
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build());
+    }
+
+    private CatalogLookupGrpc.CatalogLookupBlockingStub stub(String token) {
+        Metadata headers = new Metadata();
+        headers.put(JwtServerInterceptor.AUTHORIZATION, "Bearer " + token);
+        return CatalogLookupGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private DishSummary summary(BigDecimal price) {
+        return new DishSummary(dishId, restaurantId, "Margherita", price, 3L);
+    }
+}
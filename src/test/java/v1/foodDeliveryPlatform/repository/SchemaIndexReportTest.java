@@ -0,0 +1,136 @@
+package v1.foodDeliveryPlatform.repository;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrates a throwaway Postgres with the real changelog and reports on its indexes:
+ * duplicates fail the build, indexes the representative workload never touched are logged.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaIndexReportTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    /**
+     * An index is redundant when another index of the same kind on the same table starts with
+     * exactly its key columns, unless it is the one enforcing uniqueness.
+     */
+    private static final String REDUNDANT_INDEXES = """
+            SELECT a.indexrelid::regclass::text AS redundant, b.indexrelid::regclass::text AS covered_by
+            FROM pg_index a
+            JOIN pg_index b ON b.indrelid = a.indrelid AND b.indexrelid <> a.indexrelid
+            JOIN pg_class ac ON ac.oid = a.indexrelid
+            JOIN pg_class bc ON bc.oid = b.indexrelid
+            JOIN pg_namespace n ON n.oid = ac.relnamespace
+            WHERE n.nspname = 'public'
+              AND ac.relam = bc.relam
+              AND a.indexprs IS NULL AND b.indexprs IS NULL
+              AND a.indpred IS NULL AND b.indpred IS NULL
+              AND (b.indkey::text || ' ') LIKE (a.indkey::text || ' %')
+              AND (b.indclass::text || ' ') LIKE (a.indclass::text || ' %')
+              AND (NOT a.indisunique OR (b.indisunique AND a.indnkeyatts = b.indnkeyatts))
+              AND (a.indnkeyatts < b.indnkeyatts OR a.indexrelid > b.indexrelid)
+            ORDER BY 1
+            """;
+
+    private static final String UNUSED_INDEXES = """
+            SELECT s.relname AS table_name, s.indexrelname AS index_name
+            FROM pg_stat_user_indexes s
+            JOIN pg_index i ON i.indexrelid = s.indexrelid
+            WHERE s.idx_scan = 0 AND NOT i.indisprimary AND s.relname NOT LIKE 'databasechangelog%'
+            ORDER BY 1, 2
+            """;
+
+    /**
+     * Mirrors the lookups the repositories issue; sequential scans are disabled so the planner
+     * shows which index it would pick for each on a production-sized table.
+     */
+    private static final List<String> WORKLOAD = List.of(
+            "SELECT * FROM restaurant WHERE cuisine = 'ITALIAN'",
+            "SELECT * FROM restaurant WHERE search_vector @@ websearch_to_tsquery('simple', 'pizza')",
+            "SELECT * FROM restaurant WHERE name ILIKE '%pizz%'",
+            "SELECT * FROM restaurant WHERE geohash LIKE 'ucfv%'",
+            "SELECT * FROM dish WHERE restaurant_id = '00000000-0000-0000-0000-000000000001'",
+            "SELECT * FROM dish WHERE restaurant_id = '00000000-0000-0000-0000-000000000001' ORDER BY name, id LIMIT 20",
+            "SELECT * FROM dish WHERE restaurant_id = '00000000-0000-0000-0000-000000000001' ORDER BY price, id LIMIT 20",
+            "SELECT * FROM dish ORDER BY price, id LIMIT 20",
+            "SELECT * FROM dish ORDER BY name, id LIMIT 20",
+            "SELECT * FROM dish WHERE search_vector @@ websearch_to_tsquery('simple', 'pizza')",
+            "SELECT * FROM dish WHERE name ILIKE '%pizz%'",
+            "SELECT image FROM restaurant_images WHERE image IN ('a.png') UNION SELECT image FROM dish_images WHERE image IN ('a.png')",
+            "SELECT * FROM dish_images WHERE dish_id = '00000000-0000-0000-0000-000000000001'",
+            "SELECT * FROM restaurant_images WHERE restaurant_id = '00000000-0000-0000-0000-000000000001'",
+            "SELECT * FROM outbox_event WHERE available_at <= now() ORDER BY available_at LIMIT 100",
+            "SELECT * FROM catalog_change WHERE seq > 0 ORDER BY seq LIMIT 100",
+            "SELECT * FROM catalog_change WHERE seq IS NULL ORDER BY id LIMIT 1000",
+            "SELECT * FROM restaurant_menu_snapshot WHERE restaurant_id = '00000000-0000-0000-0000-000000000001'"
+    );
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void schemaHasNoRedundantIndexes() {
+        List<Map<String, Object>> redundant = jdbcTemplate.queryForList(REDUNDANT_INDEXES);
+
+        redundant.forEach(row -> log.warn("Index {} is covered by {}", row.get("redundant"), row.get("covered_by")));
+        assertTrue(redundant.isEmpty(), "Redundant indexes: " + redundant);
+    }
+
+    @Test
+    void reportsIndexesUnusedByWorkload() throws Exception {
+        jdbcTemplate.execute("SELECT pg_stat_reset()");
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            session.execute("SET enable_seqscan = off");
+            WORKLOAD.forEach(query -> session.queryForList(query));
+            session.execute("SELECT pg_stat_force_next_flush()");
+        }
+
+        List<Map<String, Object>> unused = awaitUsageStatistics();
+
+        unused.forEach(row -> log.info("Index {} on {} was not used by the workload",
+                row.get("index_name"), row.get("table_name")));
+    }
+
+    private List<Map<String, Object>> awaitUsageStatistics() throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Long scans = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(idx_scan), 0) FROM pg_stat_user_indexes", Long.class);
+            if (scans != null && scans > 0) {
+                return jdbcTemplate.queryForList(UNUSED_INDEXES);
+            }
+            Thread.sleep(100);
+        }
+        return fail("Index usage statistics were not flushed");
+    }
+}
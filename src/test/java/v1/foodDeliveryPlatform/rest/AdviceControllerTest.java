@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.validation.BindingResult;
@@ -170,6 +171,17 @@ class AdviceControllerTest {
         assertNull(result.getErrors());
     }
 
+    @Test
+    void handleTaskRejected_ShouldReturnServiceUnavailableStatus() {
+        TaskRejectedException exception = new TaskRejectedException("Executor rejected the task");
+
+        ExceptionBody result = adviceController.handleTaskRejected(exception);
+
+        assertNotNull(result);
+        assertEquals("Server is busy, try again later", result.getMessage());
+        assertNull(result.getErrors());
+    }
+
     @Test
     void handleException_GenericException_ShouldReturnInternalServerError() {
         Exception exception = new Exception("Database connection failed");
@@ -0,0 +1,193 @@
+package v1.foodDeliveryPlatform.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import v1.foodDeliveryPlatform.config.ControllerTestSecurityConfig;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangeDto;
+import v1.foodDeliveryPlatform.dto.model.CatalogChangesDto;
+import v1.foodDeliveryPlatform.facade.CatalogFacade;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+import v1.foodDeliveryPlatform.props.CatalogExportProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CatalogController.class)
+@Import({ControllerTestSecurityConfig.class, AdviceController.class, CatalogExportProperties.class})
+class CatalogControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogFacade catalogFacade;
+
+    @Test
+    @WithMockUser
+    void getChanges_Success() throws Exception {
+        UUID dishId = UUID.randomUUID();
+        CatalogChangeDto tombstone = CatalogChangeDto.builder()
+                .seq(8L)
+                .entityType(CatalogEntityType.DISH)
+                .entityId(dishId)
+                .deleted(true)
+                .build();
+        when(catalogFacade.getChanges(7L, 50)).thenReturn(new CatalogChangesDto(List.of(tombstone), 8L, false));
+
+        mockMvc.perform(get("/api/v1/catalog/changes")
+                        .param("since", "7")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextSince").value(8))
+                .andExpect(jsonPath("$.changes[0].entityType").value("DISH"))
+                .andExpect(jsonPath("$.changes[0].deleted").value(true))
+                .andExpect(jsonPath("$.changes[0].dish").doesNotExist());
+
+        verify(catalogFacade).getChanges(7L, 50);
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_DefaultsToBeginning() throws Exception {
+        when(catalogFacade.getChanges(0L, null)).thenReturn(new CatalogChangesDto(List.of(), 0L, false));
+
+        mockMvc.perform(get("/api/v1/catalog/changes"))
+                .andExpect(status().isOk());
+
+        verify(catalogFacade).getChanges(eq(0L), isNull());
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_InvalidLimit_BadRequest() throws Exception {
+        when(catalogFacade.getChanges(anyLong(), eq(0)))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 1000"));
+
+        mockMvc.perform(get("/api/v1/catalog/changes")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void exportCatalog_WritesNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogFacade).exportCatalog(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/catalog/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(NDJSON));
+    }
+
+    @Test
+    @WithMockUser
+    void exportCatalog_GzipWhenAccepted() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogFacade).exportCatalog(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/catalog/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(NDJSON, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void exportCatalog_UsesExportTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/catalog/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofHours(1).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    void exportCatalog_ServiceUnavailableWhenTooManyRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(catalogFacade).exportCatalog(any(OutputStream.class));
+
+        List<MvcResult> running = List.of(
+                mockMvc.perform(get("/api/v1/catalog/export")).andReturn(),
+                mockMvc.perform(get("/api/v1/catalog/export")).andReturn());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        try {
+            mockMvc.perform(get("/api/v1/catalog/export"))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            release.countDown();
+        }
+        for (MvcResult result : running) {
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        }
+        verify(catalogFacade, times(2)).exportCatalog(any(OutputStream.class));
+    }
+
+    @Test
+    void exportCatalog_Unauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/catalog/export"))
+                .andExpect(status().isForbidden());
+
+        verify(catalogFacade, never()).exportCatalog(any());
+    }
+
+    private static final String NDJSON = """
+            {"id":"1","name":"First"}
+            {"id":"2","name":"Second"}
+            """;
+}
@@ -1,9 +1,12 @@
 package v1.foodDeliveryPlatform.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -12,16 +15,30 @@ import org.springframework.test.web.servlet.MockMvc;
 import v1.foodDeliveryPlatform.config.ControllerTestSecurityConfig;
 import v1.foodDeliveryPlatform.dto.minio.ModelImageDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.DishFilterDto;
+import v1.foodDeliveryPlatform.dto.model.KeysetPageDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
 import v1.foodDeliveryPlatform.dto.model.feign.DishClientDto;
 import v1.foodDeliveryPlatform.facade.DishFacade;
+import v1.foodDeliveryPlatform.model.EncodedBody;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.model.enums.DishSort;
+import v1.foodDeliveryPlatform.service.ResponseCacheService;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DishController.class)
@@ -34,6 +51,12 @@ class DishControllerTest {
     @MockitoBean
     private DishFacade dishFacade;
 
+    @MockitoBean
+    private ResponseCacheService responseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final UUID dishId = UUID.randomUUID();
     private final UUID restaurantId = UUID.randomUUID();
 
@@ -57,10 +80,19 @@ class DishControllerTest {
         }
         """.formatted(dishId, restaurantId);
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void renderResponsesWithoutCache() {
+        when(responseCache.getOrRender(anyString(), anyBoolean(), any(Supplier.class), any(Predicate.class)))
+                .thenAnswer(invocation -> new EncodedBody(objectMapper.writeValueAsBytes(
+                        invocation.getArgument(2, Supplier.class).get()), false));
+    }
+
     @Test
     @WithMockUser
     void getById_Success() throws Exception {
         DishDto dishDto = new DishDto();
+        when(dishFacade.getState(dishId)).thenReturn(new ResourceState(1L, Instant.now()));
         when(dishFacade.getById(dishId)).thenReturn(dishDto);
 
         mockMvc.perform(get("/api/v1/dishes/{id}", dishId))
@@ -69,6 +101,70 @@ class DishControllerTest {
         verify(dishFacade).getById(dishId);
     }
 
+    @Test
+    @WithMockUser
+    void getById_NotModified() throws Exception {
+        when(dishFacade.getState(dishId)).thenReturn(new ResourceState(1L, Instant.now()));
+
+        mockMvc.perform(get("/api/v1/dishes/{id}", dishId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified());
+
+        verify(dishFacade, never()).getById(any());
+    }
+
+    @Test
+    @WithMockUser
+    void findAll_Success() throws Exception {
+        KeysetPageDto<DishDto> page = new KeysetPageDto<>(List.of(new DishDto()), "next");
+        when(dishFacade.findAll(any(DishFilterDto.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/dishes")
+                        .param("restaurantId", restaurantId.toString())
+                        .param("maxPrice", "500")
+                        .param("sort", "PRICE_DESC")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(dishFacade).findAll(argThat(filter ->
+                restaurantId.equals(filter.getRestaurantId())
+                        && filter.getMaxPrice().intValue() == 500
+                        && filter.getSort() == DishSort.PRICE_DESC
+                        && filter.getSize() == 10));
+    }
+
+    @Test
+    @WithMockUser
+    void findAll_InvalidSize() throws Exception {
+        mockMvc.perform(get("/api/v1/dishes")
+                        .param("size", "1000"))
+                .andExpect(status().isBadRequest());
+
+        verify(dishFacade, never()).findAll(any());
+    }
+
+    @Test
+    @WithMockUser
+    void search_Success() throws Exception {
+        PageDto<DishDto> page = PageDto.<DishDto>builder()
+                .content(List.of(new DishDto()))
+                .page(2)
+                .size(5)
+                .totalElements(11)
+                .totalPages(3)
+                .build();
+        when(dishFacade.search("pizza", 2, 5)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/dishes/search")
+                        .param("query", "pizza")
+                        .param("page", "2")
+                        .param("size", "5"))
+                .andExpect(status().isOk());
+
+        verify(dishFacade).search("pizza", 2, 5);
+    }
+
     @Test
     void getDishName_Unauthorized() throws Exception {
         mockMvc.perform(get("/api/v1/dishes/{id}/name", dishId))
@@ -181,7 +277,7 @@ class DishControllerTest {
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isForbidden());
 
-        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class));
+        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class), any());
     }
 
     @Test
@@ -195,7 +291,7 @@ class DishControllerTest {
         );
 
         DishDto dishDto = new DishDto();
-        when(dishFacade.uploadImage(eq(dishId), any(ModelImageDto.class))).thenReturn(dishDto);
+        when(dishFacade.uploadImage(eq(dishId), any(ModelImageDto.class), isNull())).thenReturn(dishDto);
 
         mockMvc.perform(multipart("/api/v1/dishes/{id}/image", dishId)
                         .file(imageFile)
@@ -203,7 +299,7 @@ class DishControllerTest {
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isOk());
 
-        verify(dishFacade).uploadImage(eq(dishId), any(ModelImageDto.class));
+        verify(dishFacade).uploadImage(eq(dishId), any(ModelImageDto.class), isNull());
     }
 
     @Test
@@ -217,7 +313,7 @@ class DishControllerTest {
         );
 
         DishDto dishDto = new DishDto();
-        when(dishFacade.uploadImage(eq(dishId), any(ModelImageDto.class))).thenReturn(dishDto);
+        when(dishFacade.uploadImage(eq(dishId), any(ModelImageDto.class), isNull())).thenReturn(dishDto);
 
         mockMvc.perform(multipart("/api/v1/dishes/{id}/image", dishId)
                         .file(imageFile)
@@ -225,7 +321,7 @@ class DishControllerTest {
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isOk());
 
-        verify(dishFacade).uploadImage(eq(dishId), any(ModelImageDto.class));
+        verify(dishFacade).uploadImage(eq(dishId), any(ModelImageDto.class), isNull());
     }
 
     @Test
@@ -237,7 +333,7 @@ class DishControllerTest {
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isBadRequest());
 
-        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class));
+        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class), any());
     }
 
     @Test
@@ -257,6 +353,6 @@ class DishControllerTest {
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isBadRequest());
 
-        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class));
+        verify(dishFacade, never()).uploadImage(any(UUID.class), any(ModelImageDto.class), any());
     }
 }
@@ -4,12 +4,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import v1.foodDeliveryPlatform.config.ControllerTestSecurityConfig;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.facade.DishFacade;
 import v1.foodDeliveryPlatform.facade.ImageFacade;
+import v1.foodDeliveryPlatform.model.ImageObject;
+import v1.foodDeliveryPlatform.service.MinioService;
+
+import java.io.ByteArrayInputStream;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +26,10 @@ import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ImageDishController.class)
@@ -31,6 +42,12 @@ class ImageControllerTest {
     @MockitoBean
     private ImageFacade imageFacade;
 
+    @MockitoBean
+    private DishFacade dishFacade;
+
+    @MockitoBean
+    private MinioService minioService;
+
     private final UUID dishId = UUID.randomUUID();
     private final String imageName = "test-image.jpg";
 
@@ -76,7 +93,7 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().isForbidden());
 
-        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class));
+        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class), any());
     }
 
     @Test
@@ -87,35 +104,35 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().isForbidden());
 
-        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class));
+        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class), any());
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     void removeImage_WithAdminRole_Success() throws Exception {
         DishDto dishDto = new DishDto();
-        when(imageFacade.removeImageByDishId(dishId, imageName)).thenReturn(dishDto);
+        when(imageFacade.removeImageByDishId(dishId, imageName, null)).thenReturn(dishDto);
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images", dishId)
                         .param("image", imageName)
                         .with(csrf()))
                 .andExpect(status().isOk());
 
-        verify(imageFacade).removeImageByDishId(dishId, imageName);
+        verify(imageFacade).removeImageByDishId(dishId, imageName, null);
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_MANAGER"})
     void removeImage_WithManagerRole_Success() throws Exception {
         DishDto dishDto = new DishDto();
-        when(imageFacade.removeImageByDishId(dishId, imageName)).thenReturn(dishDto);
+        when(imageFacade.removeImageByDishId(dishId, imageName, null)).thenReturn(dishDto);
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images", dishId)
                         .param("image", imageName)
                         .with(csrf()))
                 .andExpect(status().isOk());
 
-        verify(imageFacade).removeImageByDishId(dishId, imageName);
+        verify(imageFacade).removeImageByDishId(dishId, imageName, null);
     }
 
     @Test
@@ -124,7 +141,7 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().isForbidden());
 
-        verify(imageFacade, never()).removeAllImagesByDishId(any(UUID.class));
+        verify(imageFacade, never()).removeAllImagesByDishId(any(UUID.class), any());
     }
 
     @Test
@@ -134,33 +151,33 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().isForbidden());
 
-        verify(imageFacade, never()).removeAllImagesByDishId(any(UUID.class));
+        verify(imageFacade, never()).removeAllImagesByDishId(any(UUID.class), any());
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     void removeAllImages_WithAdminRole_Success() throws Exception {
         DishDto dishDto = new DishDto();
-        when(imageFacade.removeAllImagesByDishId(dishId)).thenReturn(dishDto);
+        when(imageFacade.removeAllImagesByDishId(dishId, null)).thenReturn(dishDto);
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images/all", dishId)
                         .with(csrf()))
                 .andExpect(status().isOk());
 
-        verify(imageFacade).removeAllImagesByDishId(dishId);
+        verify(imageFacade).removeAllImagesByDishId(dishId, null);
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_MANAGER"})
     void removeAllImages_WithManagerRole_Success() throws Exception {
         DishDto dishDto = new DishDto();
-        when(imageFacade.removeAllImagesByDishId(dishId)).thenReturn(dishDto);
+        when(imageFacade.removeAllImagesByDishId(dishId, null)).thenReturn(dishDto);
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images/all", dishId)
                         .with(csrf()))
                 .andExpect(status().isOk());
 
-        verify(imageFacade).removeAllImagesByDishId(dishId);
+        verify(imageFacade).removeAllImagesByDishId(dishId, null);
     }
 
     @Test
@@ -171,7 +188,7 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().isBadRequest());
 
-        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class));
+        verify(imageFacade, never()).removeImageByDishId(any(UUID.class), any(String.class), any());
     }
 
     @Test
@@ -179,20 +196,20 @@ class ImageControllerTest {
     void removeImage_WithEmptyImageParam_Success() throws Exception {
 
         DishDto dishDto = new DishDto();
-        when(imageFacade.removeImageByDishId(dishId, "")).thenReturn(dishDto);
+        when(imageFacade.removeImageByDishId(dishId, "", null)).thenReturn(dishDto);
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images", dishId)
                         .param("image", "")
                         .with(csrf()))
                 .andExpect(status().isOk());
 
-        verify(imageFacade).removeImageByDishId(dishId, "");
+        verify(imageFacade).removeImageByDishId(dishId, "", null);
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     void removeImage_WhenImageNotFound_ReturnsOk() throws Exception {
-        when(imageFacade.removeImageByDishId(dishId, imageName))
+        when(imageFacade.removeImageByDishId(dishId, imageName, null))
                 .thenThrow(new RuntimeException("Image not found"));
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images", dishId)
@@ -200,19 +217,63 @@ class ImageControllerTest {
                         .with(csrf()))
                 .andExpect(status().is5xxServerError());
 
-        verify(imageFacade).removeImageByDishId(dishId, imageName);
+        verify(imageFacade).removeImageByDishId(dishId, imageName, null);
     }
 
     @Test
     @WithMockUser(authorities = {"ROLE_ADMIN"})
     void removeAllImages_WhenDishNotFound_ReturnsOk() throws Exception {
-        when(imageFacade.removeAllImagesByDishId(dishId))
+        when(imageFacade.removeAllImagesByDishId(dishId, null))
                 .thenThrow(new RuntimeException("Dish not found"));
 
         mockMvc.perform(delete("/api/v1/dishes/{dishId}/images/all", dishId)
                         .with(csrf()))
                 .andExpect(status().is5xxServerError());
 
-        verify(imageFacade).removeAllImagesByDishId(dishId);
+        verify(imageFacade).removeAllImagesByDishId(dishId, null);
+    }
+
+    @Test
+    @WithMockUser
+    void getImage_StreamsContent() throws Exception {
+        byte[] data = {1, 2, 3, 4};
+        when(dishFacade.getById(dishId)).thenReturn(DishDto.builder().images(List.of(imageName)).build());
+        when(minioService.statFile(imageName)).thenReturn(ImageObject.builder().name(imageName).etag("abc123").size(data.length).build());
+        when(minioService.openFile(imageName)).thenReturn(new ByteArrayInputStream(data));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/dishes/{dishId}/images/{imageName}", dishId, imageName))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(content().bytes(data));
+    }
+
+    @Test
+    @WithMockUser
+    void getImage_NotModified() throws Exception {
+        when(dishFacade.getById(dishId)).thenReturn(DishDto.builder().images(List.of(imageName)).build());
+        when(minioService.statFile(imageName)).thenReturn(ImageObject.builder().name(imageName).etag("abc123").size(4).build());
+
+        mockMvc.perform(get("/api/v1/dishes/{dishId}/images/{imageName}", dishId, imageName)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""));
+
+        verify(minioService, never()).openFile(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getImage_NotOwnedByDish_Forbidden() throws Exception {
+        when(dishFacade.getById(dishId)).thenReturn(DishDto.builder().images(List.of()).build());
+
+        mockMvc.perform(get("/api/v1/dishes/{dishId}/images/{imageName}", dishId, imageName))
+                .andExpect(status().isForbidden());
+
+        verify(minioService, never()).statFile(any());
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,58 @@
 package v1.foodDeliveryPlatform.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import v1.foodDeliveryPlatform.config.ControllerTestSecurityConfig;
+import v1.foodDeliveryPlatform.dto.model.CuisineCountDto;
 import v1.foodDeliveryPlatform.dto.model.DishDto;
+import v1.foodDeliveryPlatform.dto.model.NearbyRestaurantDto;
+import v1.foodDeliveryPlatform.dto.model.PageDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteLineDto;
+import v1.foodDeliveryPlatform.dto.model.QuoteRequestDto;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDishesDto;
 import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
 import v1.foodDeliveryPlatform.dto.model.feign.RestaurantClientDto;
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
 import v1.foodDeliveryPlatform.facade.DishFacade;
 import v1.foodDeliveryPlatform.facade.RestaurantFacade;
-
+import v1.foodDeliveryPlatform.model.EncodedBody;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.ResourceState;
+import v1.foodDeliveryPlatform.service.ResponseCacheService;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RestaurantController.class)
@@ -38,7 +68,14 @@ class RestaurantControllerTest {
     @MockitoBean
     private DishFacade dishFacade;
 
+    @MockitoBean
+    private ResponseCacheService responseCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final UUID restaurantId = UUID.randomUUID();
+    private final Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
     private final UUID dishId = UUID.randomUUID();
 
     private final String createRestaurantJson = """
@@ -66,28 +103,96 @@ class RestaurantControllerTest {
         }
         """;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void renderResponsesWithoutCache() {
+        when(responseCache.getOrRender(anyString(), anyBoolean(), any(Supplier.class), any(Predicate.class)))
+                .thenAnswer(invocation -> new EncodedBody(objectMapper.writeValueAsBytes(
+                        invocation.getArgument(2, Supplier.class).get()), false));
+        when(responseCache.getOrEncode(anyString(), anyBoolean(), any(Supplier.class)))
+                .thenAnswer(invocation -> new EncodedBody(
+                        (byte[]) invocation.getArgument(2, Supplier.class).get(), false));
+    }
+
     @Test
     void getById_Success() throws Exception {
         RestaurantDto restaurantDto = new RestaurantDto();
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
         when(restaurantFacade.getById(restaurantId)).thenReturn(restaurantDto);
 
         mockMvc.perform(get("/api/v1/restaurants/{id}", restaurantId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, updatedAt.toEpochMilli()));
 
         verify(restaurantFacade).getById(restaurantId);
     }
 
+    @Test
+    void getById_CachedBytes_SkipsFacade() throws Exception {
+        byte[] cached = "{\"name\":\"Cached\"}".getBytes(StandardCharsets.UTF_8);
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
+        when(responseCache.getOrRender(eq("restaurant:" + restaurantId + ":2"), eq(false), any(), any()))
+                .thenReturn(new EncodedBody(cached, false));
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Cached"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        verify(restaurantFacade, never()).getById(any());
+    }
+
+    @Test
+    void getById_MatchingIfNoneMatch_NotModified() throws Exception {
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        verify(restaurantFacade, never()).getById(any());
+    }
+
+    @Test
+    void getById_StaleIfNoneMatch_ReturnsBody() throws Exception {
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(3L, updatedAt));
+        when(restaurantFacade.getById(restaurantId)).thenReturn(new RestaurantDto());
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
     @Test
     void getAll_Success() throws Exception {
         List<RestaurantDto> restaurants = List.of(new RestaurantDto());
+        when(restaurantFacade.getCollectionState()).thenReturn(new ResourceState(1L, 0L, updatedAt));
         when(restaurantFacade.getAllRestaurants()).thenReturn(restaurants);
 
         mockMvc.perform(get("/api/v1/restaurants"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0-" + updatedAt.toEpochMilli() + "\""));
 
         verify(restaurantFacade).getAllRestaurants();
     }
 
+    @Test
+    void getAll_NotModifiedSince() throws Exception {
+        when(restaurantFacade.getCollectionState()).thenReturn(new ResourceState(1L, 0L, updatedAt));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(updatedAt.plusSeconds(1));
+
+        mockMvc.perform(get("/api/v1/restaurants").headers(headers))
+                .andExpect(status().isNotModified());
+
+        verify(restaurantFacade, never()).getAllRestaurants();
+    }
+
     @Test
     void getAllByCuisine_Success() throws Exception {
         List<RestaurantDto> restaurants = List.of(new RestaurantDto());
@@ -100,17 +205,143 @@ class RestaurantControllerTest {
         verify(restaurantFacade).getAllByCuisine("Italian");
     }
 
+    @Test
+    void search_Success() throws Exception {
+        PageDto<RestaurantDto> page = PageDto.<RestaurantDto>builder()
+                .content(List.of(new RestaurantDto()))
+                .page(0)
+                .size(20)
+                .totalElements(1)
+                .totalPages(1)
+                .build();
+        when(restaurantFacade.search("bella", 0, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/restaurants/search")
+                        .param("query", "bella"))
+                .andExpect(status().isOk());
+
+        verify(restaurantFacade).search("bella", 0, 20);
+    }
+
+    @Test
+    void search_MissingQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants/search"))
+                .andExpect(status().isBadRequest());
+
+        verify(restaurantFacade, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findNearby_Success() throws Exception {
+        PageDto<NearbyRestaurantDto> page = PageDto.<NearbyRestaurantDto>builder()
+                .content(List.of(NearbyRestaurantDto.builder().distance(120.5).build()))
+                .page(0)
+                .size(20)
+                .totalElements(1)
+                .totalPages(1)
+                .build();
+        when(restaurantFacade.findNearby(55.75, 37.61, 5000, 0, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/restaurants/nearby")
+                        .param("lat", "55.75")
+                        .param("lon", "37.61"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].distance").value(120.5));
+
+        verify(restaurantFacade).findNearby(55.75, 37.61, 5000, 0, 20);
+    }
+
+    @Test
+    void getCuisineCounts_Success() throws Exception {
+        List<CuisineCountDto> counts = List.of(new CuisineCountDto("ITALIAN", "Итальянская", 3));
+        when(restaurantFacade.getCuisineCounts()).thenReturn(counts);
+
+        mockMvc.perform(get("/api/v1/restaurants/cuisine/counts"))
+                .andExpect(status().isOk());
+
+        verify(restaurantFacade).getCuisineCounts();
+    }
+
     @Test
     void getDishesByRestaurantId_Success() throws Exception {
-        List<DishDto> dishes = List.of(new DishDto());
+        RestaurantDishesDto dishes = new RestaurantDishesDto(List.of(new DishDto()), 2L);
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
         when(dishFacade.getAllByRestaurantId(restaurantId)).thenReturn(dishes);
 
         mockMvc.perform(get("/api/v1/restaurants/{id}/dishes", restaurantId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(1));
 
         verify(dishFacade).getAllByRestaurantId(restaurantId);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getDishesByRestaurantId_CachesOnlyBodyOfTaggedVersion() throws Exception {
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}/dishes", restaurantId))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Predicate<RestaurantDishesDto>> matchesKey = ArgumentCaptor.forClass(Predicate.class);
+        verify(responseCache).getOrRender(eq("restaurant-dishes:" + restaurantId + ":2"), eq(false), any(),
+                matchesKey.capture());
+        assertTrue(matchesKey.getValue().test(new RestaurantDishesDto(List.of(), 2L)));
+        assertFalse(matchesKey.getValue().test(new RestaurantDishesDto(List.of(), 3L)));
+    }
+
+    @Test
+    @WithMockUser
+    void quote_Success() throws Exception {
+        QuoteDto quote = QuoteDto.builder()
+                .restaurantId(restaurantId)
+                .lines(List.of(new QuoteLineDto(dishId, "Margherita", new BigDecimal("15.99"), 2,
+                        new BigDecimal("31.98"))))
+                .total(new BigDecimal("31.98"))
+                .priceVersion("abc123")
+                .build();
+        when(restaurantFacade.quote(eq(restaurantId), any(QuoteRequestDto.class))).thenReturn(quote);
+
+        mockMvc.perform(post("/api/v1/restaurants/{id}/quote", restaurantId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"dishId": "%s", "quantity": 2}]}
+                                """.formatted(dishId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(jsonPath("$.total").value(31.98))
+                .andExpect(jsonPath("$.lines[0].quantity").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void quote_InvalidQuantity_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/restaurants/{id}/quote", restaurantId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"dishId": "%s", "quantity": 0}]}
+                                """.formatted(dishId)))
+                .andExpect(status().isBadRequest());
+
+        verify(restaurantFacade, never()).quote(any(), any());
+    }
+
+    @Test
+    void quote_Unauthorized() throws Exception {
+        mockMvc.perform(post("/api/v1/restaurants/{id}/quote", restaurantId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"dishId": "%s", "quantity": 1}]}
+                                """.formatted(dishId)))
+                .andExpect(status().isForbidden());
+
+        verify(restaurantFacade, never()).quote(any(), any());
+    }
+
     @Test
     void existsRestaurant_Unauthorized() throws Exception {
         mockMvc.perform(get("/api/v1/restaurants/{id}/exists", restaurantId))
@@ -271,4 +502,149 @@ class RestaurantControllerTest {
 
         verify(restaurantFacade).updateRestaurant(any(RestaurantDto.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    void updateRestaurant_WithIfMatch_PassesVersionAndReturnsEtag() throws Exception {
+        RestaurantDto restaurantDto = new RestaurantDto();
+        restaurantDto.setVersion(4L);
+        when(restaurantFacade.updateRestaurant(any(RestaurantDto.class))).thenReturn(restaurantDto);
+
+        mockMvc.perform(put("/api/v1/restaurants")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateRestaurantJson))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(restaurantFacade).updateRestaurant(argThat(dto -> Long.valueOf(3L).equals(dto.getVersion())));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    void updateRestaurant_GzipIfMatch_PassesVersion() throws Exception {
+        RestaurantDto restaurantDto = new RestaurantDto();
+        restaurantDto.setVersion(4L);
+        when(restaurantFacade.updateRestaurant(any(RestaurantDto.class))).thenReturn(restaurantDto);
+
+        mockMvc.perform(put("/api/v1/restaurants")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"3-gzip\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateRestaurantJson))
+                .andExpect(status().isOk());
+
+        verify(restaurantFacade).updateRestaurant(argThat(dto -> Long.valueOf(3L).equals(dto.getVersion())));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    void updateRestaurant_MalformedIfMatch_PreconditionFailed() throws Exception {
+        mockMvc.perform(put("/api/v1/restaurants")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "W/\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateRestaurantJson))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(restaurantFacade, never()).updateRestaurant(any(RestaurantDto.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    void updateRestaurant_StaleVersion_PreconditionFailed() throws Exception {
+        when(restaurantFacade.updateRestaurant(any(RestaurantDto.class)))
+                .thenThrow(new PreconditionFailedException("Resource has been modified, current version is 4"));
+
+        mockMvc.perform(put("/api/v1/restaurants")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateRestaurantJson))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void getMenu_ServesSnapshotBytes() throws Exception {
+        byte[] document = "{\"name\":\"Pasta Place\",\"dishDtoList\":[]}".getBytes(StandardCharsets.UTF_8);
+        when(restaurantFacade.getMenu(restaurantId)).thenReturn(MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(5L)
+                .updatedAt(updatedAt)
+                .document(document)
+                .build());
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}/menu", restaurantId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(document));
+    }
+
+    @Test
+    void getMenu_AcceptsGzip_ServesPrecompressedBytes() throws Exception {
+        byte[] compressed = {0x1f, (byte) 0x8b, 1, 2, 3};
+        when(restaurantFacade.getMenu(restaurantId)).thenReturn(MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(5L)
+                .updatedAt(updatedAt)
+                .document(new byte[]{'{', '}'})
+                .build());
+        when(responseCache.getOrEncode(eq("menu:" + restaurantId + ":5"), eq(true), any()))
+                .thenReturn(new EncodedBody(compressed, true));
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}/menu", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5-gzip\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().bytes(compressed));
+    }
+
+    @Test
+    void getMenu_GzipTagMatches_ReturnsNotModified() throws Exception {
+        when(restaurantFacade.getMenu(restaurantId)).thenReturn(MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(5L)
+                .updatedAt(updatedAt)
+                .document(new byte[]{'{', '}'})
+                .build());
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}/menu", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+        verify(responseCache, never()).getOrEncode(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void getById_GzipRefused_ServesPlainBytes() throws Exception {
+        when(restaurantFacade.getState(restaurantId)).thenReturn(new ResourceState(2L, updatedAt));
+        when(restaurantFacade.getById(restaurantId)).thenReturn(new RestaurantDto());
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}", restaurantId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+        verify(responseCache).getOrRender(eq("restaurant:" + restaurantId + ":2"), eq(false), any(), any());
+    }
+
+    @Test
+    void getMenu_MatchingIfNoneMatch_NotModified() throws Exception {
+        when(restaurantFacade.getMenu(restaurantId)).thenReturn(MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(5L)
+                .updatedAt(updatedAt)
+                .document(new byte[]{'{', '}'})
+                .build());
+
+        mockMvc.perform(get("/api/v1/restaurants/{id}/menu", restaurantId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
@@ -0,0 +1,70 @@
+package v1.foodDeliveryPlatform.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import v1.foodDeliveryPlatform.config.ControllerTestSecurityConfig;
+import v1.foodDeliveryPlatform.dto.model.SuggestionDto;
+import v1.foodDeliveryPlatform.facade.SuggestionFacade;
+import v1.foodDeliveryPlatform.model.enums.SuggestionType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SuggestionController.class)
+@Import({ControllerTestSecurityConfig.class, AdviceController.class})
+class SuggestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SuggestionFacade suggestionFacade;
+
+    @Test
+    @WithMockUser
+    void suggest_Success() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(suggestionFacade.suggest("piz", 10)).thenReturn(List.of(
+                new SuggestionDto(id, "Pizza", SuggestionType.DISH, UUID.randomUUID())));
+
+        mockMvc.perform(get("/api/v1/suggestions")
+                        .param("prefix", "piz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Pizza"))
+                .andExpect(jsonPath("$[0].type").value("DISH"));
+
+        verify(suggestionFacade).suggest("piz", 10);
+    }
+
+    @Test
+    @WithMockUser
+    void suggest_InvalidLimit() throws Exception {
+        when(suggestionFacade.suggest("piz", 500)).thenThrow(new IllegalArgumentException("Limit must be between 1 and 20"));
+
+        mockMvc.perform(get("/api/v1/suggestions")
+                        .param("prefix", "piz")
+                        .param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void suggest_MissingPrefix() throws Exception {
+        mockMvc.perform(get("/api/v1/suggestions"))
+                .andExpect(status().isBadRequest());
+
+        verify(suggestionFacade, never()).suggest(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,174 @@
+package v1.foodDeliveryPlatform.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.Suggestion;
+import v1.foodDeliveryPlatform.model.enums.SuggestionType;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.repository.projection.NameView;
+import v1.foodDeliveryPlatform.service.impl.AutocompleteServiceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceImplTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @InjectMocks
+    private AutocompleteServiceImpl autocompleteService;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID dishId = UUID.randomUUID();
+
+    @Test
+    void rebuild_IndexesRestaurantsAndDishes() {
+        when(restaurantRepository.findAllNames()).thenReturn(List.of(nameView(restaurantId, "La Bella Italia", restaurantId)));
+        when(dishRepository.findAllNames()).thenReturn(List.of(nameView(dishId, "Bellini", restaurantId)));
+
+        autocompleteService.rebuild();
+        List<Suggestion> result = autocompleteService.suggest("bel", 10);
+
+        assertEquals(2, result.size());
+        assertEquals(SuggestionType.RESTAURANT, result.get(0).getType());
+        assertEquals(SuggestionType.DISH, result.get(1).getType());
+        assertEquals(restaurantId, result.get(1).getRestaurantId());
+    }
+
+    @Test
+    void rebuild_KeepsUpdatesCommittedWhileLoading() {
+        UUID newDishId = UUID.randomUUID();
+        when(restaurantRepository.findAllNames()).thenReturn(List.of(nameView(restaurantId, "La Bella Italia", restaurantId)));
+        when(dishRepository.findAllNames()).thenAnswer(invocation -> {
+            autocompleteService.indexDish(createDish(newDishId, "Bellissimo"));
+            autocompleteService.removeDish(dishId);
+            return List.of(nameView(dishId, "Bellini", restaurantId));
+        });
+
+        autocompleteService.rebuild();
+        List<Suggestion> result = autocompleteService.suggest("bel", 10);
+
+        assertEquals(List.of(restaurantId, newDishId), result.stream().map(Suggestion::getId).toList());
+    }
+
+    @Test
+    void suggest_MatchesWordStartsIgnoringCase() {
+        autocompleteService.indexRestaurant(createRestaurant("  Ёлки   Палки "));
+
+        assertEquals(1, autocompleteService.suggest("ЕЛК", 10).size());
+        assertEquals(1, autocompleteService.suggest("палки", 10).size());
+        assertEquals(1, autocompleteService.suggest("елки п", 10).size());
+        assertTrue(autocompleteService.suggest("алки", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ReturnsEachResourceOnce() {
+        autocompleteService.indexRestaurant(createRestaurant("Pizza Pizza"));
+
+        List<Suggestion> result = autocompleteService.suggest("pizza", 10);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void suggest_RespectsLimitAndOrdersShorterNamesFirst() {
+        autocompleteService.indexDish(createDish(UUID.randomUUID(), "Pizza Margherita"));
+        autocompleteService.indexDish(createDish(UUID.randomUUID(), "Pizza"));
+        autocompleteService.indexDish(createDish(UUID.randomUUID(), "Pizza Diavola"));
+
+        List<Suggestion> result = autocompleteService.suggest("piz", 2);
+
+        assertEquals(2, result.size());
+        assertEquals("Pizza", result.get(0).getName());
+        assertEquals("Pizza Diavola", result.get(1).getName());
+    }
+
+    @Test
+    void indexDish_ReplacesPreviousName() {
+        autocompleteService.indexDish(createDish(dishId, "Borscht"));
+        autocompleteService.indexDish(createDish(dishId, "Solyanka"));
+
+        assertTrue(autocompleteService.suggest("bor", 10).isEmpty());
+        assertEquals(1, autocompleteService.suggest("sol", 10).size());
+    }
+
+    @Test
+    void removeRestaurant_RemovesItsDishes() {
+        autocompleteService.indexRestaurant(createRestaurant("Tanuki"));
+        autocompleteService.indexDish(createDish(dishId, "Tempura"));
+
+        autocompleteService.removeRestaurant(restaurantId);
+
+        assertTrue(autocompleteService.suggest("t", 10).isEmpty());
+    }
+
+    @Test
+    void removeDish_Success() {
+        autocompleteService.indexDish(createDish(dishId, "Khachapuri"));
+
+        autocompleteService.removeDish(dishId);
+
+        assertTrue(autocompleteService.suggest("kha", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_BlankPrefix() {
+        autocompleteService.indexRestaurant(createRestaurant("Tanuki"));
+
+        assertTrue(autocompleteService.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> autocompleteService.suggest("pi", 0));
+        assertThrows(IllegalArgumentException.class, () -> autocompleteService.suggest("pi", 100));
+    }
+
+    private Restaurant createRestaurant(String name) {
+        return Restaurant.builder()
+                .id(restaurantId)
+                .name(name)
+                .build();
+    }
+
+    private Dish createDish(UUID id, String name) {
+        return Dish.builder()
+                .id(id)
+                .name(name)
+                .restaurant(Restaurant.builder().id(restaurantId).build())
+                .build();
+    }
+
+    private NameView nameView(UUID id, String name, UUID restaurant) {
+        return new NameView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public UUID getRestaurantId() {
+                return restaurant;
+            }
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package v1.foodDeliveryPlatform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import v1.foodDeliveryPlatform.model.CatalogChange;
+import v1.foodDeliveryPlatform.model.CatalogDelta;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+import v1.foodDeliveryPlatform.model.enums.CatalogEntityType;
+import v1.foodDeliveryPlatform.props.CatalogChangeProperties;
+import v1.foodDeliveryPlatform.repository.CatalogChangeRepository;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.repository.projection.RestaurantView;
+import v1.foodDeliveryPlatform.service.impl.CatalogChangeServiceImpl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeServiceImplTest {
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    private final CatalogChangeProperties properties = new CatalogChangeProperties();
+
+    private CatalogChangeServiceImpl catalogChangeService;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID dishId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        catalogChangeService = new CatalogChangeServiceImpl(
+                catalogChangeRepository, restaurantRepository, dishRepository, properties);
+    }
+
+    @Test
+    void getChanges_CollapsesToLatestChangePerEntity() {
+        when(catalogChangeRepository.findPublishedAfter(10L, 101)).thenReturn(List.of(
+                change(11L, CatalogEntityType.RESTAURANT, restaurantId, false),
+                change(12L, CatalogEntityType.DISH, dishId, false),
+                change(13L, CatalogEntityType.RESTAURANT, restaurantId, false)));
+        when(restaurantRepository.findImagesByRestaurantIdIn(Set.of(restaurantId))).thenReturn(List.of(
+                RestaurantImage.builder().restaurantId(restaurantId).name("front.jpg").position(0).build()));
+        RestaurantView view = view(restaurantId);
+        when(restaurantRepository.findViewsByIdIn(Set.of(restaurantId))).thenReturn(List.of(view));
+        when(dishRepository.findAllById(Set.of(dishId)))
+                .thenReturn(List.of(Dish.builder().id(dishId).build()));
+
+        CatalogDelta delta = catalogChangeService.getChanges(10L, null);
+
+        assertEquals(List.of(12L, 13L), delta.getChanges().stream().map(CatalogChange::getSeq).toList());
+        assertEquals(13L, delta.getNextSince());
+        assertFalse(delta.isHasMore());
+        Restaurant restaurant = delta.getRestaurants().get(restaurantId);
+        assertEquals("Pasta Place", restaurant.getName());
+        assertEquals(3L, restaurant.getVersion());
+        assertEquals(List.of("front.jpg"), restaurant.getImages().stream().map(RestaurantImage::getName).toList());
+        assertNull(restaurant.getDishes());
+        assertTrue(delta.getDishes().containsKey(dishId));
+        verify(restaurantRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getChanges_TombstoneIsNotLoaded() {
+        when(catalogChangeRepository.findPublishedAfter(0L, 3)).thenReturn(List.of(
+                change(1L, CatalogEntityType.DISH, dishId, false),
+                change(2L, CatalogEntityType.DISH, dishId, true)));
+        when(dishRepository.findAllById(Set.of())).thenReturn(List.of());
+
+        CatalogDelta delta = catalogChangeService.getChanges(0L, 2);
+
+        assertEquals(1, delta.getChanges().size());
+        assertTrue(delta.getChanges().get(0).isDeleted());
+        assertEquals(2L, delta.getNextSince());
+        assertTrue(delta.getDishes().isEmpty());
+    }
+
+    @Test
+    void getChanges_FullPage_HasMore() {
+        when(catalogChangeRepository.findPublishedAfter(0L, 2)).thenReturn(List.of(
+                change(1L, CatalogEntityType.DISH, dishId, true),
+                change(2L, CatalogEntityType.RESTAURANT, restaurantId, true)));
+        when(dishRepository.findAllById(Set.of())).thenReturn(List.of());
+
+        CatalogDelta delta = catalogChangeService.getChanges(0L, 1);
+
+        assertTrue(delta.isHasMore());
+        assertEquals(1, delta.getChanges().size());
+        assertEquals(1L, delta.getNextSince());
+    }
+
+    @Test
+    void getChanges_Empty_KeepsCursor() {
+        when(catalogChangeRepository.findPublishedAfter(42L, 101)).thenReturn(List.of());
+        when(dishRepository.findAllById(Set.of())).thenReturn(List.of());
+
+        CatalogDelta delta = catalogChangeService.getChanges(42L, null);
+
+        assertTrue(delta.getChanges().isEmpty());
+        assertEquals(42L, delta.getNextSince());
+        assertFalse(delta.isHasMore());
+    }
+
+    @Test
+    void getChanges_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> catalogChangeService.getChanges(-1L, null));
+        assertThrows(IllegalArgumentException.class, () -> catalogChangeService.getChanges(0L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> catalogChangeService.getChanges(0L, properties.getMaxPageSize() + 1));
+        verify(catalogChangeRepository, never()).findPublishedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void publishPending_Success() {
+        when(catalogChangeRepository.tryLock(anyLong())).thenReturn(true);
+        when(catalogChangeRepository.publishPending(properties.getPublishBatchSize())).thenReturn(5);
+
+        assertEquals(5, catalogChangeService.publishPending());
+    }
+
+    @Test
+    void publishPending_LockedByAnotherInstance() {
+        when(catalogChangeRepository.tryLock(anyLong())).thenReturn(false);
+
+        assertEquals(0, catalogChangeService.publishPending());
+        verify(catalogChangeRepository, never()).publishPending(anyInt());
+    }
+
+    private RestaurantView view(UUID id) {
+        RestaurantView view = mock(RestaurantView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getName()).thenReturn("Pasta Place");
+        when(view.getCuisine()).thenReturn("ITALIAN");
+        when(view.getAddress()).thenReturn("1 Main Street");
+        when(view.getVersion()).thenReturn(3L);
+        return view;
+    }
+
+    private CatalogChange change(long seq, CatalogEntityType type, UUID id, boolean deleted) {
+        return CatalogChange.builder()
+                .id(seq)
+                .seq(seq)
+                .entityType(type)
+                .entityId(id)
+                .restaurantId(restaurantId)
+                .deleted(deleted)
+                .build();
+    }
+}
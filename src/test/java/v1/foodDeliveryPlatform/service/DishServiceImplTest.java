@@ -2,18 +2,40 @@ package v1.foodDeliveryPlatform.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishFilter;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.KeysetPage;
 import v1.foodDeliveryPlatform.model.ModelImage;
+import v1.foodDeliveryPlatform.model.ResourceState;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantDishes;
+import v1.foodDeliveryPlatform.model.enums.DishSort;
 import v1.foodDeliveryPlatform.model.feign.DishClient;
 import v1.foodDeliveryPlatform.repository.DishRepository;
 import v1.foodDeliveryPlatform.service.impl.DishServiceImpl;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +56,15 @@ class DishServiceImplTest {
     @Mock
     private MinioService minioService;
 
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private DishServiceImpl dishService;
 
@@ -65,6 +96,100 @@ class DishServiceImplTest {
         verify(dishRepository).findById(dishId);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAll_ReturnsNextCursorWhenMoreRows() {
+        Dish first = dishWithPrice("100.00");
+        Dish second = dishWithPrice("200.00");
+        Dish third = dishWithPrice("300.00");
+        when(dishRepository.findBy(any(Specification.class), any())).thenReturn(List.of(first, second, third));
+
+        KeysetPage<Dish> result = dishService.findAll(DishFilter.builder()
+                .restaurantId(restaurantId)
+                .maxPrice(new BigDecimal("500"))
+                .size(2)
+                .build());
+
+        assertEquals(List.of(first, second), result.getContent());
+        assertNotNull(result.getNextCursor());
+
+        when(dishRepository.findBy(any(Specification.class), any())).thenReturn(List.of(third));
+        KeysetPage<Dish> next = dishService.findAll(DishFilter.builder()
+                .restaurantId(restaurantId)
+                .maxPrice(new BigDecimal("500"))
+                .cursor(result.getNextCursor())
+                .size(2)
+                .build());
+
+        assertEquals(List.of(third), next.getContent());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void findAll_InvalidPriceRange() {
+        DishFilter filter = DishFilter.builder()
+                .minPrice(new BigDecimal("500"))
+                .maxPrice(new BigDecimal("100"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> dishService.findAll(filter));
+    }
+
+    @Test
+    void findAll_InvalidCursor() {
+        DishFilter filter = DishFilter.builder()
+                .cursor("not-a-cursor")
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> dishService.findAll(filter));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAll_CursorFromAnotherSort() {
+        when(dishRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(dishWithPrice("1.00"), dishWithPrice("2.00")));
+        String cursor = dishService.findAll(DishFilter.builder()
+                .sort(DishSort.PRICE_ASC)
+                .size(1)
+                .build()).getNextCursor();
+
+        DishFilter filter = DishFilter.builder()
+                .sort(DishSort.NAME_ASC)
+                .cursor(cursor)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> dishService.findAll(filter));
+    }
+
+    @Test
+    void search_Success() {
+        Page<Dish> page = new PageImpl<>(List.of(createTestDish()), PageRequest.of(0, 20), 1);
+        when(dishRepository.search("margherita pizza", PageRequest.of(0, 20))).thenReturn(page);
+
+        Page<Dish> result = dishService.search("  margherita   pizza ", 0, 20);
+
+        assertEquals(1, result.getTotalElements());
+        verify(dishRepository).search("margherita pizza", PageRequest.of(0, 20));
+    }
+
+    @Test
+    void search_BlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> dishService.search(" ", 0, 20));
+
+        verify(dishRepository, never()).search(any(), any());
+    }
+
+    @Test
+    void search_PageSizeTooLarge() {
+        assertThrows(IllegalArgumentException.class, () -> dishService.search("pizza", 0, 500));
+
+        verify(dishRepository, never()).search(any(), any());
+    }
+
     @Test
     void createDish_Success() {
         Dish dish = createTestDish();
@@ -82,6 +207,7 @@ class DishServiceImplTest {
         assertEquals(restaurant, dish.getRestaurant());
         verify(restaurantService).getById(restaurantId);
         verify(dishRepository).save(dish);
+        verify(restaurantService).markModified(restaurantId);
     }
 
     @Test
@@ -92,12 +218,16 @@ class DishServiceImplTest {
         dish2.setName("Another Dish");
 
         when(dishRepository.findAllByRestaurantId(restaurantId)).thenReturn(List.of(dish1, dish2));
+        when(restaurantService.getState(restaurantId)).thenReturn(new ResourceState(7L, Instant.now()));
 
-        List<Dish> result = dishService.getAllByRestaurantId(restaurantId);
+        RestaurantDishes result = dishService.getAllByRestaurantId(restaurantId);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(dishRepository).findAllByRestaurantId(restaurantId);
+        assertEquals(2, result.getDishes().size());
+        assertEquals(7L, result.getRestaurantVersion());
+        InOrder inOrder = inOrder(dishRepository, restaurantService);
+        inOrder.verify(dishRepository).findAllByRestaurantId(restaurantId);
+        inOrder.verify(restaurantService).getState(restaurantId);
     }
 
     @Test
@@ -138,14 +268,14 @@ class DishServiceImplTest {
     void delete_Success() throws Exception {
         Dish dish = createTestDish();
         when(dishRepository.findById(dishId)).thenReturn(Optional.of(dish));
-        doNothing().when(minioService).deleteFile(anyString());
         doNothing().when(dishRepository).deleteImagesByDishId(dishId);
         doNothing().when(dishRepository).deleteDirectlyById(dishId);
 
         assertDoesNotThrow(() -> dishService.delete(dishId));
 
         verify(dishRepository).findById(dishId);
-        verify(minioService, times(2)).deleteFile(anyString());
+        verify(outboxService).enqueueImageDeletion(List.of("image1.jpg", "image2.jpg"));
+        verify(minioService, never()).deleteFile(anyString());
         verify(dishRepository).deleteImagesByDishId(dishId);
         verify(dishRepository).deleteDirectlyById(dishId);
     }
@@ -167,37 +297,86 @@ class DishServiceImplTest {
     }
 
     @Test
-    void delete_MinioException() throws Exception {
+    void delete_OutboxException() throws Exception {
         Dish dish = createTestDish();
         when(dishRepository.findById(dishId)).thenReturn(Optional.of(dish));
-        doThrow(new RuntimeException("MinIO error")).when(minioService).deleteFile(anyString());
+        doThrow(new RuntimeException("DB error")).when(outboxService).enqueueImageDeletion(any());
 
         assertThrows(RuntimeException.class, () -> dishService.delete(dishId));
 
         verify(dishRepository).findById(dishId);
-        verify(minioService).deleteFile(anyString());
+        verify(minioService, never()).deleteFile(anyString());
         verify(dishRepository, never()).deleteImagesByDishId(any());
         verify(dishRepository, never()).deleteDirectlyById(any());
     }
 
     @Test
-    void uploadImage_Success() {
+    void uploadImage_Success() throws Exception {
         Dish dish = createTestDish();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB), "png", png);
         ModelImage modelImage = new ModelImage();
+        modelImage.setFile(new MockMultipartFile("file", "photo.png", "image/png", png.toByteArray()));
         String fileName = "uploaded-image.jpg";
 
         when(dishRepository.findById(dishId)).thenReturn(Optional.of(dish));
         when(minioService.upload(modelImage)).thenReturn(fileName);
+        runTransactionsInline();
         when(dishRepository.save(dish)).thenReturn(dish);
 
-        Dish result = dishService.uploadImage(dishId, modelImage);
+        Dish result = dishService.uploadImage(dishId, modelImage, null);
 
         assertNotNull(result);
         assertEquals(3, dish.getImages().size());
-        assertTrue(dish.getImages().contains(fileName));
+        DishImage added = dish.getImages().get(2);
+        assertEquals(fileName, added.getName());
+        assertEquals(dishId, added.getDishId());
+        assertEquals(2, added.getPosition());
+        assertEquals(png.size(), added.getMetadata().getSizeBytes());
+        assertEquals(64, added.getMetadata().getContentHash().length());
+        assertEquals(3, added.getMetadata().getWidth());
+        assertEquals(2, added.getMetadata().getHeight());
         verify(dishRepository).findById(dishId);
         verify(minioService).upload(modelImage);
         verify(dishRepository).save(dish);
+        verify(restaurantService).markModified(restaurantId);
+        verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void uploadImage_SaveFails_SchedulesImageDeletion() {
+        Dish dish = createTestDish();
+        ModelImage modelImage = new ModelImage();
+        modelImage.setFile(new MockMultipartFile("file", "notes.txt", "text/plain", "not an image".getBytes()));
+        String fileName = "uploaded-image.jpg";
+
+        when(dishRepository.findById(dishId)).thenReturn(Optional.of(dish));
+        when(minioService.upload(modelImage)).thenReturn(fileName);
+        runTransactionsInline();
+        when(dishRepository.save(dish)).thenThrow(new RuntimeException("DB error"));
+
+        assertThrows(RuntimeException.class, () -> dishService.uploadImage(dishId, modelImage, null));
+
+        verify(outboxService).enqueueImageDeletion(List.of(fileName));
+        verify(restaurantService, never()).markModified(any());
+    }
+
+    @Test
+    void uploadImage_MarkModifiedFails_SchedulesImageDeletion() {
+        Dish dish = createTestDish();
+        ModelImage modelImage = new ModelImage();
+        modelImage.setFile(new MockMultipartFile("file", "notes.txt", "text/plain", "not an image".getBytes()));
+        String fileName = "uploaded-image.jpg";
+
+        when(dishRepository.findById(dishId)).thenReturn(Optional.of(dish));
+        when(minioService.upload(modelImage)).thenReturn(fileName);
+        runTransactionsInline();
+        when(dishRepository.save(dish)).thenReturn(dish);
+        doThrow(new RuntimeException("DB error")).when(restaurantService).markModified(restaurantId);
+
+        assertThrows(RuntimeException.class, () -> dishService.uploadImage(dishId, modelImage, null));
+
+        verify(outboxService).enqueueImageDeletion(List.of(fileName));
     }
 
     @Test
@@ -206,12 +385,13 @@ class DishServiceImplTest {
         when(dishRepository.findById(dishId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> dishService.uploadImage(dishId, modelImage));
+                () -> dishService.uploadImage(dishId, modelImage, null));
 
         assertEquals("Dish not found", exception.getMessage());
         verify(dishRepository).findById(dishId);
         verify(minioService, never()).upload(any());
         verify(dishRepository, never()).save(any());
+        verify(transactionTemplate, never()).execute(any());
     }
 
     @Test
@@ -273,14 +453,44 @@ class DishServiceImplTest {
     @Test
     void getAllByRestaurantId_Empty() {
         when(dishRepository.findAllByRestaurantId(restaurantId)).thenReturn(List.of());
+        when(restaurantService.getState(restaurantId)).thenReturn(new ResourceState(1L, Instant.now()));
 
-        List<Dish> result = dishService.getAllByRestaurantId(restaurantId);
+        RestaurantDishes result = dishService.getAllByRestaurantId(restaurantId);
 
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.getDishes().isEmpty());
         verify(dishRepository).findAllByRestaurantId(restaurantId);
     }
 
+    @Test
+    void getSummaries_Success() {
+        DishSummary summary = new DishSummary(dishId, restaurantId, dishName, new BigDecimal("1500.00"), 1L);
+        when(dishRepository.findSummariesByIdIn(List.of(dishId))).thenReturn(List.of(summary));
+
+        List<DishSummary> result = dishService.getSummaries(List.of(dishId));
+
+        assertEquals(List.of(summary), result);
+    }
+
+    @Test
+    void getSummaries_EmptyIds_SkipsQuery() {
+        assertTrue(dishService.getSummaries(List.of()).isEmpty());
+
+        verify(dishRepository, never()).findSummariesByIdIn(any());
+    }
+
+    private Dish dishWithPrice(String price) {
+        Dish dish = createTestDish();
+        dish.setId(UUID.randomUUID());
+        dish.setPrice(new BigDecimal(price));
+        return dish;
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
     private Dish createTestDish() {
         Dish dish = new Dish();
         dish.setId(dishId);
@@ -288,7 +498,9 @@ class DishServiceImplTest {
         dish.setPrice(new BigDecimal("1500.00"));
         dish.setDescription("Test description");
         dish.setRestaurant(createTestRestaurant());
-        dish.setImages(List.of("image1.jpg", "image2.jpg"));
+        dish.setImages(new ArrayList<>(List.of(
+                DishImage.builder().dishId(dishId).name("image1.jpg").position(0).build(),
+                DishImage.builder().dishId(dishId).name("image2.jpg").position(1).build())));
         return dish;
     }
 
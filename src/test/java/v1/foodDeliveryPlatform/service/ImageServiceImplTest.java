@@ -5,7 +5,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
 import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.Restaurant;
 import v1.foodDeliveryPlatform.repository.DishRepository;
 import v1.foodDeliveryPlatform.service.impl.ImageServiceImpl;
 
@@ -27,31 +31,51 @@ class ImageServiceImplTest {
     private DishRepository dishRepository;
 
     @Mock
-    private MinioService minioService;
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RestaurantService restaurantService;
 
     @InjectMocks
     private ImageServiceImpl imageService;
 
     private final UUID dishId = UUID.randomUUID();
+    private final UUID restaurantId = UUID.randomUUID();
     private final String imageName = "test-image.jpg";
 
     @Test
     void removeImageByDishId_Success() throws Exception {
         Dish dish = createTestDish();
-        List<String> originalImages = new ArrayList<>(dish.getImages());
 
         when(dishService.getById(dishId)).thenReturn(dish);
-        doNothing().when(minioService).deleteFile(imageName);
         when(dishRepository.save(dish)).thenReturn(dish);
 
-        Dish result = imageService.removeImageByDishId(dishId, imageName);
+        Dish result = imageService.removeImageByDishId(dishId, imageName, null);
 
         assertNotNull(result);
         assertEquals(1, result.getImages().size());
-        assertFalse(result.getImages().contains(imageName));
+        assertFalse(names(result).contains(imageName));
         verify(dishService).getById(dishId);
-        verify(minioService).deleteFile(imageName);
+        verify(outboxService).enqueueImageDeletion(List.of(imageName));
         verify(dishRepository).save(dish);
+        verify(restaurantService).markModified(restaurantId);
+    }
+
+    @Test
+    void removeImageByDishId_VersionMismatch() {
+        Dish dish = createTestDish();
+        dish.setVersion(5L);
+
+        when(dishService.getById(dishId)).thenReturn(dish);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> imageService.removeImageByDishId(dishId, imageName, 4L));
+
+        verify(outboxService, never()).enqueueImageDeletion(any());
+        verify(dishRepository, never()).save(any());
     }
 
     @Test
@@ -61,28 +85,28 @@ class ImageServiceImplTest {
 
         when(dishService.getById(dishId)).thenReturn(dish);
 
-        Dish result = imageService.removeImageByDishId(dishId, nonExistentImage);
+        Dish result = imageService.removeImageByDishId(dishId, nonExistentImage, null);
 
         assertNotNull(result);
         assertEquals(2, result.getImages().size());
         verify(dishService).getById(dishId);
-        verify(minioService, never()).deleteFile(any());
+        verify(outboxService, never()).enqueueImageDeletion(any());
         verify(dishRepository, never()).save(any());
     }
 
     @Test
-    void removeImageByDishId_MinioException() throws Exception {
+    void removeImageByDishId_OutboxException() throws Exception {
         Dish dish = createTestDish();
 
         when(dishService.getById(dishId)).thenReturn(dish);
-        doThrow(new RuntimeException("MinIO error")).when(minioService).deleteFile(imageName);
+        doThrow(new RuntimeException("DB error")).when(outboxService).enqueueImageDeletion(any());
 
         Exception exception = assertThrows(Exception.class,
-                () -> imageService.removeImageByDishId(dishId, imageName));
+                () -> imageService.removeImageByDishId(dishId, imageName, null));
 
-        assertEquals("MinIO error", exception.getMessage());
+        assertEquals("DB error", exception.getMessage());
         verify(dishService).getById(dishId);
-        verify(minioService).deleteFile(imageName);
+        verify(outboxService).enqueueImageDeletion(List.of(imageName));
         verify(dishRepository, never()).save(any());
     }
 
@@ -93,15 +117,14 @@ class ImageServiceImplTest {
         savedDish.setImages(new ArrayList<>());
 
         when(dishService.getById(dishId)).thenReturn(dish);
-        doNothing().when(minioService).deleteFile(anyString());
         when(dishRepository.save(dish)).thenReturn(savedDish);
 
-        Dish result = imageService.removeAllImagesByDishId(dishId);
+        Dish result = imageService.removeAllImagesByDishId(dishId, null);
 
         assertNotNull(result);
         assertTrue(result.getImages().isEmpty());
         verify(dishService).getById(dishId);
-        verify(minioService, times(2)).deleteFile(anyString());
+        verify(outboxService).enqueueImageDeletion(List.of("image1.jpg", imageName));
         verify(dishRepository).save(dish);
     }
 
@@ -115,35 +138,35 @@ class ImageServiceImplTest {
         when(dishService.getById(dishId)).thenReturn(dish);
         when(dishRepository.save(dish)).thenReturn(savedDish);
 
-        Dish result = imageService.removeAllImagesByDishId(dishId);
+        Dish result = imageService.removeAllImagesByDishId(dishId, null);
 
         assertNotNull(result);
         assertTrue(result.getImages().isEmpty());
         verify(dishService).getById(dishId);
-        verify(minioService, never()).deleteFile(anyString());
+        verify(outboxService).enqueueImageDeletion(List.of());
         verify(dishRepository).save(dish);
     }
 
     @Test
-    void removeAllImagesByDishId_MinioException() throws Exception {
+    void removeAllImagesByDishId_OutboxException() throws Exception {
         Dish dish = createTestDish();
 
         when(dishService.getById(dishId)).thenReturn(dish);
-        doThrow(new RuntimeException("MinIO error")).when(minioService).deleteFile(anyString());
+        doThrow(new RuntimeException("DB error")).when(outboxService).enqueueImageDeletion(any());
 
         RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> imageService.removeAllImagesByDishId(dishId));
+                () -> imageService.removeAllImagesByDishId(dishId, null));
 
-        assertEquals("MinIO error", exception.getMessage());
+        assertEquals("DB error", exception.getMessage());
         verify(dishService).getById(dishId);
-        verify(minioService).deleteFile(anyString());
+        verify(outboxService).enqueueImageDeletion(any());
         verify(dishRepository, never()).save(any());
     }
 
     @Test
     void getAllByDishId_Success() {
         Dish dish = createTestDish();
-        List<String> expectedImages = dish.getImages();
+        List<String> expectedImages = List.of("image1.jpg", imageName);
 
         when(dishService.getById(dishId)).thenReturn(dish);
 
@@ -172,18 +195,17 @@ class ImageServiceImplTest {
     @Test
     void removeImageByDishId_SingleImage() throws Exception {
         Dish dish = createTestDish();
-        dish.setImages(List.of(imageName));
+        dish.setImages(new ArrayList<>(List.of(image(imageName))));
 
         when(dishService.getById(dishId)).thenReturn(dish);
-        doNothing().when(minioService).deleteFile(imageName);
         when(dishRepository.save(dish)).thenReturn(dish);
 
-        Dish result = imageService.removeImageByDishId(dishId, imageName);
+        Dish result = imageService.removeImageByDishId(dishId, imageName, null);
 
         assertNotNull(result);
         assertTrue(result.getImages().isEmpty());
         verify(dishService).getById(dishId);
-        verify(minioService).deleteFile(imageName);
+        verify(outboxService).enqueueImageDeletion(List.of(imageName));
         verify(dishRepository).save(dish);
     }
 
@@ -191,7 +213,16 @@ class ImageServiceImplTest {
         Dish dish = new Dish();
         dish.setId(dishId);
         dish.setName("Test Dish");
-        dish.setImages(new ArrayList<>(List.of("image1.jpg", imageName)));
+        dish.setRestaurant(Restaurant.builder().id(restaurantId).build());
+        dish.setImages(new ArrayList<>(List.of(image("image1.jpg"), image(imageName))));
         return dish;
     }
+
+    private DishImage image(String name) {
+        return DishImage.builder().dishId(dishId).name(name).build();
+    }
+
+    private List<String> names(Dish dish) {
+        return dish.getImages().stream().map(DishImage::getName).toList();
+    }
 }
@@ -0,0 +1,147 @@
+package v1.foodDeliveryPlatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
+import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.mapper.RestaurantMapper;
+import v1.foodDeliveryPlatform.model.MenuSnapshot;
+import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
+import v1.foodDeliveryPlatform.repository.MenuSnapshotRepository;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.impl.MenuSnapshotServiceImpl;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotServiceImplTest {
+
+    @Mock
+    private MenuSnapshotRepository menuSnapshotRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private RestaurantMapper restaurantMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MenuSnapshotServiceImpl menuSnapshotService;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+
+    @BeforeEach
+    void setUp() {
+        menuSnapshotService = new MenuSnapshotServiceImpl(
+                menuSnapshotRepository, restaurantRepository, restaurantMapper, new ObjectMapper(), eventPublisher);
+    }
+
+    @Test
+    void getMenu_CurrentSnapshot_NoRebuild() {
+        MenuSnapshot snapshot = MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(3L)
+                .document(new byte[]{'{', '}'})
+                .build();
+        when(menuSnapshotRepository.findCurrent(restaurantId)).thenReturn(Optional.of(snapshot));
+
+        assertSame(snapshot, menuSnapshotService.getMenu(restaurantId));
+        verify(restaurantRepository, never()).findById(any());
+        verify(menuSnapshotRepository, never()).upsert(any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void getMenu_OutdatedSnapshot_ServedAndRefreshScheduled() {
+        MenuSnapshot outdated = MenuSnapshot.builder()
+                .restaurantId(restaurantId)
+                .version(3L)
+                .document(new byte[]{'{', '}'})
+                .build();
+        when(menuSnapshotRepository.findCurrent(restaurantId)).thenReturn(Optional.empty());
+        when(menuSnapshotRepository.findById(restaurantId)).thenReturn(Optional.of(outdated));
+
+        assertSame(outdated, menuSnapshotService.getMenu(restaurantId));
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(restaurantId));
+        verify(restaurantRepository, never()).findById(any());
+        verify(menuSnapshotRepository, never()).upsert(any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void getMenu_MissingSnapshot_BuildsInPlace() {
+        stubRestaurant(4L);
+        when(menuSnapshotRepository.findCurrent(restaurantId)).thenReturn(Optional.empty());
+        when(menuSnapshotRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        MenuSnapshot result = menuSnapshotService.getMenu(restaurantId);
+
+        assertEquals(4L, result.getVersion());
+        assertEquals(updatedAt, result.getUpdatedAt());
+        assertTrue(new String(result.getDocument()).contains("\"name\":\"Pasta Place\""));
+        verify(menuSnapshotRepository).upsert(eq(restaurantId), eq(4L), eq(updatedAt), eq(result.getDocument()), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void refresh_LockHeldElsewhere_Skips() {
+        when(menuSnapshotRepository.tryLock(restaurantId)).thenReturn(false);
+
+        menuSnapshotService.refresh(restaurantId);
+
+        verify(menuSnapshotRepository, never()).findCurrent(any());
+        verify(restaurantRepository, never()).findById(any());
+    }
+
+    @Test
+    void refresh_AlreadyCurrent_Skips() {
+        when(menuSnapshotRepository.tryLock(restaurantId)).thenReturn(true);
+        when(menuSnapshotRepository.findCurrent(restaurantId))
+                .thenReturn(Optional.of(MenuSnapshot.builder().restaurantId(restaurantId).version(4L).build()));
+
+        menuSnapshotService.refresh(restaurantId);
+
+        verify(restaurantRepository, never()).findById(any());
+        verify(menuSnapshotRepository, never()).upsert(any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void refresh_Outdated_Rebuilds() {
+        stubRestaurant(5L);
+        when(menuSnapshotRepository.tryLock(restaurantId)).thenReturn(true);
+        when(menuSnapshotRepository.findCurrent(restaurantId)).thenReturn(Optional.empty());
+
+        menuSnapshotService.refresh(restaurantId);
+
+        verify(menuSnapshotRepository).upsert(eq(restaurantId), eq(5L), eq(updatedAt), any(), any());
+    }
+
+    @Test
+    void rebuild_RestaurantNotFound() {
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> menuSnapshotService.rebuild(restaurantId));
+        verify(menuSnapshotRepository, never()).upsert(any(), anyLong(), any(), any(), any());
+    }
+
+    private void stubRestaurant(long version) {
+        Restaurant restaurant = Restaurant.builder().id(restaurantId).version(version).updatedAt(updatedAt).build();
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+        when(restaurantMapper.toDto(restaurant)).thenReturn(RestaurantDto.builder().name("Pasta Place").build());
+    }
+}
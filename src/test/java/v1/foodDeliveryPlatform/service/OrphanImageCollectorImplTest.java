@@ -0,0 +1,106 @@
+package v1.foodDeliveryPlatform.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import v1.foodDeliveryPlatform.model.ImageObject;
+import v1.foodDeliveryPlatform.props.ImageGcProperties;
+import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.service.impl.OrphanImageCollectorImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanImageCollectorImplTest {
+
+    @Mock
+    private MinioService minioService;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private final ImageGcProperties properties = new ImageGcProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Instant old = Instant.now().minus(Duration.ofDays(3));
+
+    private OrphanImageCollectorImpl collector;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPageSize(2);
+        properties.setPauseBetweenPages(Duration.ZERO);
+        collector = new OrphanImageCollectorImpl(minioService, restaurantRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void collect_DeletesOnlyUnreferencedObjects() throws Exception {
+        when(minioService.listFiles(null, 2)).thenReturn(List.of(object("a.jpg", old), object("b.jpg", old)));
+        when(minioService.listFiles("b.jpg", 2)).thenReturn(List.of(object("c.jpg", old)));
+        when(restaurantRepository.findReferencedImages(List.of("a.jpg", "b.jpg"))).thenReturn(List.of("a.jpg"));
+        when(restaurantRepository.findReferencedImages(List.of("c.jpg"))).thenReturn(List.of());
+        when(minioService.deleteFiles(any())).thenReturn(Map.of());
+
+        int deleted = collector.collect();
+
+        assertEquals(2, deleted);
+        verify(minioService).deleteFiles(List.of("b.jpg"));
+        verify(minioService).deleteFiles(List.of("c.jpg"));
+        assertEquals(3, meterRegistry.counter("image.gc.objects", "result", "scanned").count());
+        assertEquals(2, meterRegistry.counter("image.gc.objects", "result", "deleted").count());
+    }
+
+    @Test
+    void collect_SkipsObjectsWithinGracePeriod() throws Exception {
+        when(minioService.listFiles(null, 2)).thenReturn(List.of(object("fresh.jpg", Instant.now())));
+
+        int deleted = collector.collect();
+
+        assertEquals(0, deleted);
+        verify(restaurantRepository, never()).findReferencedImages(any());
+        verify(minioService, never()).deleteFiles(any());
+    }
+
+    @Test
+    void collect_ResumesFromLastPageAndStopsAtDeleteLimit() throws Exception {
+        properties.setMaxDeletesPerRun(1);
+        when(minioService.listFiles(null, 2)).thenReturn(List.of(object("a.jpg", old), object("b.jpg", old)));
+        when(restaurantRepository.findReferencedImages(any())).thenReturn(List.of());
+        when(minioService.deleteFiles(any())).thenReturn(Map.of());
+        when(minioService.listFiles("b.jpg", 2)).thenReturn(List.of());
+
+        assertEquals(1, collector.collect());
+        verify(minioService).deleteFiles(List.of("a.jpg"));
+
+        collector.collect();
+        verify(minioService).listFiles("b.jpg", 2);
+    }
+
+    @Test
+    void collect_CountsFailedDeletes() throws Exception {
+        when(minioService.listFiles(null, 2)).thenReturn(List.of(object("a.jpg", old)));
+        when(restaurantRepository.findReferencedImages(any())).thenReturn(List.of());
+        when(minioService.deleteFiles(any())).thenReturn(Map.of("a.jpg", "Access denied"));
+
+        assertEquals(0, collector.collect());
+        assertEquals(1, meterRegistry.counter("image.gc.objects", "result", "failed").count());
+    }
+
+    private ImageObject object(String name, Instant lastModified) {
+        return ImageObject.builder()
+                .name(name)
+                .size(10)
+                .lastModified(lastModified)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package v1.foodDeliveryPlatform.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import v1.foodDeliveryPlatform.model.OutboxEvent;
+import v1.foodDeliveryPlatform.model.enums.OutboxEventType;
+import v1.foodDeliveryPlatform.props.OutboxProperties;
+import v1.foodDeliveryPlatform.repository.OutboxEventRepository;
+import v1.foodDeliveryPlatform.service.impl.OutboxServiceImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private MinioService minioService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxServiceImpl outboxService;
+
+    private OutboxEvent first;
+    private OutboxEvent second;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, minioService, outboxProperties,
+                new TransactionTemplate(transactionManager), meterRegistry);
+        first = createEvent("first.jpg");
+        second = createEvent("second.jpg");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueImageDeletion_SavesOneEventPerImage() {
+        outboxService.enqueueImageDeletion(List.of("first.jpg", "second.jpg", "first.jpg"));
+
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        assertEquals(List.of("first.jpg", "second.jpg"),
+                captor.getValue().stream().map(OutboxEvent::getPayload).toList());
+        assertTrue(captor.getValue().stream().allMatch(event -> event.getType() == OutboxEventType.DELETE_IMAGE));
+    }
+
+    @Test
+    void enqueueImageDeletion_Empty() {
+        outboxService.enqueueImageDeletion(List.of());
+
+        verify(outboxEventRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void dispatchBatch_DeletesCompletedEvents() throws Exception {
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of(first, second));
+        when(minioService.deleteFiles(List.of("first.jpg", "second.jpg"))).thenReturn(Map.of());
+
+        int dispatched = outboxService.dispatchBatch();
+
+        assertEquals(2, dispatched);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+        verify(outboxEventRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void dispatchBatch_CallsMinioBetweenTwoShortTransactions() throws Exception {
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of(first));
+        when(minioService.deleteFiles(any())).thenAnswer(invocation -> {
+            verify(transactionManager, times(1)).commit(any());
+            assertTrue(first.getAvailableAt().isAfter(Instant.now().plus(Duration.ofMinutes(4))));
+            return Map.of();
+        });
+
+        outboxService.dispatchBatch();
+
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void dispatchBatch_ReschedulesFailedEvents() throws Exception {
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of(first, second));
+        when(minioService.deleteFiles(any())).thenReturn(Map.of("second.jpg", "Access denied"));
+
+        outboxService.dispatchBatch();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(first.getId()));
+        verify(outboxEventRepository).saveAll(List.of(second));
+        assertEquals(1, second.getAttempts());
+        assertEquals("Access denied", second.getLastError());
+        assertTrue(second.getAvailableAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void dispatchBatch_MinioUnavailable_ReschedulesAll() throws Exception {
+        second.setAttempts(3);
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of(first, second));
+        when(minioService.deleteFiles(any())).thenThrow(new RuntimeException("Connection refused"));
+
+        outboxService.dispatchBatch();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+        assertEquals(1, first.getAttempts());
+        assertEquals(4, second.getAttempts());
+        assertTrue(second.getAvailableAt().isAfter(first.getAvailableAt()));
+    }
+
+    @Test
+    void dispatchBatch_LastAttempt_CountsDeadLetter() throws Exception {
+        first.setAttempts(outboxProperties.getMaxAttempts() - 1);
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of(first));
+        when(minioService.deleteFiles(any())).thenReturn(Map.of("first.jpg", "Access denied"));
+
+        outboxService.dispatchBatch();
+
+        assertEquals(1.0, meterRegistry.counter("outbox.events.dead").count());
+    }
+
+    @Test
+    void purgeDeadLetters_DeletesExhaustedEventsPastRetention() {
+        when(outboxEventRepository.deleteDead(eq(outboxProperties.getMaxAttempts()), any())).thenReturn(3);
+
+        assertEquals(3, outboxService.purgeDeadLetters());
+
+        ArgumentCaptor<Instant> before = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxEventRepository).deleteDead(eq(outboxProperties.getMaxAttempts()), before.capture());
+        assertTrue(before.getValue().isBefore(Instant.now().minus(Duration.ofDays(6))));
+    }
+
+    @Test
+    void dispatchBatch_NothingDue() throws Exception {
+        when(outboxEventRepository.lockDueEvents(any(), anyInt(), anyInt())).thenReturn(List.of());
+
+        assertEquals(0, outboxService.dispatchBatch());
+
+        verify(minioService, never()).deleteFiles(any());
+    }
+
+    private OutboxEvent createEvent(String image) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .type(OutboxEventType.DELETE_IMAGE)
+                .payload(image)
+                .availableAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+    }
+}
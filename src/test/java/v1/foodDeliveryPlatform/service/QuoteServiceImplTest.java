@@ -0,0 +1,85 @@
+package v1.foodDeliveryPlatform.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import v1.foodDeliveryPlatform.model.DishSummary;
+import v1.foodDeliveryPlatform.model.Quote;
+import v1.foodDeliveryPlatform.model.QuoteItem;
+import v1.foodDeliveryPlatform.repository.DishRepository;
+import v1.foodDeliveryPlatform.service.impl.QuoteServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuoteServiceImplTest {
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @InjectMocks
+    private QuoteServiceImpl quoteService;
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID pizzaId = UUID.randomUUID();
+    private final UUID saladId = UUID.randomUUID();
+
+    @Test
+    void quote_Success() {
+        when(dishRepository.findSummariesByRestaurantIdAndIdIn(restaurantId, Set.of(pizzaId, saladId)))
+                .thenReturn(List.of(pizza(1L), salad()));
+
+        Quote quote = quoteService.quote(restaurantId, List.of(
+                new QuoteItem(pizzaId, 2), new QuoteItem(saladId, 1)));
+
+        assertEquals(2, quote.getLines().size());
+        assertEquals(pizzaId, quote.getLines().get(0).getDishId());
+        assertEquals(3198, quote.getLines().get(0).getLineTotalMinor());
+        assertEquals(4048, quote.getTotalMinor());
+        assertEquals(32, quote.getPriceVersion().length());
+    }
+
+    @Test
+    void quote_DishOfOtherRestaurant_Throws() {
+        when(dishRepository.findSummariesByRestaurantIdAndIdIn(eq(restaurantId), any()))
+                .thenReturn(List.of(pizza(1L)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> quoteService.quote(restaurantId, List.of(
+                        new QuoteItem(pizzaId, 1), new QuoteItem(saladId, 1))));
+
+        assertTrue(exception.getMessage().contains(saladId.toString()));
+    }
+
+    @Test
+    void quote_PriceVersion_ChangesWithDishVersion() {
+        when(dishRepository.findSummariesByRestaurantIdAndIdIn(eq(restaurantId), any()))
+                .thenReturn(List.of(pizza(1L)), List.of(pizza(1L)), List.of(pizza(2L)));
+        List<QuoteItem> items = List.of(new QuoteItem(pizzaId, 1));
+
+        String first = quoteService.quote(restaurantId, items).getPriceVersion();
+        String same = quoteService.quote(restaurantId, items).getPriceVersion();
+        String changed = quoteService.quote(restaurantId, items).getPriceVersion();
+
+        assertEquals(first, same);
+        assertNotEquals(first, changed);
+    }
+
+    private DishSummary pizza(Long version) {
+        return new DishSummary(pizzaId, restaurantId, "Margherita", new BigDecimal("15.99"), version);
+    }
+
+    private DishSummary salad() {
+        return new DishSummary(saladId, restaurantId, "Caesar", new BigDecimal("8.50"), 1L);
+    }
+}
@@ -0,0 +1,160 @@
+package v1.foodDeliveryPlatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import v1.foodDeliveryPlatform.dto.model.RestaurantDto;
+import v1.foodDeliveryPlatform.model.EncodedBody;
+import v1.foodDeliveryPlatform.props.ResponseCacheProperties;
+import v1.foodDeliveryPlatform.service.impl.ResponseCacheServiceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheServiceImplTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResponseCacheServiceImpl responseCache;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new ResponseCacheServiceImpl(redisTemplate, objectMapper, properties, meterRegistry);
+    }
+
+    @Test
+    void getOrRender_Hit_ReturnsCachedBytes() {
+        byte[] cached = "{\"name\":\"Cached\"}".getBytes(StandardCharsets.UTF_8);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("response:restaurant:1")).thenReturn(cached);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1", false,
+                () -> fail("body must not be loaded"), dto -> true);
+
+        assertSame(cached, result.content());
+        assertFalse(result.gzipped());
+        assertEquals(1, meterRegistry.counter("response.cache", "result", "hit").count());
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    void getOrRender_Miss_RendersAndStores() throws Exception {
+        RestaurantDto dto = restaurant(2L);
+        byte[] expected = objectMapper.writeValueAsBytes(dto);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:2", false, () -> dto, r -> r.getVersion() == 2L);
+
+        assertArrayEquals(expected, result.content());
+        assertEquals(1, meterRegistry.counter("response.cache", "result", "miss").count());
+        verify(valueOperations).set("response:restaurant:1:2", expected, properties.getTtl());
+    }
+
+    @Test
+    void getOrRender_VersionMismatch_DoesNotStore() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:3", false,
+                () -> restaurant(2L), r -> r.getVersion() == 3L);
+
+        assertNotNull(result.content());
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    void getOrRender_RedisUnavailable_RendersBody() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:2", false, () -> restaurant(2L), r -> true);
+
+        assertTrue(new String(result.content(), StandardCharsets.UTF_8).contains("\"name\":\"Test Restaurant\""));
+    }
+
+    @Test
+    void getOrRender_Disabled_BypassesRedis() {
+        properties.setEnabled(false);
+
+        responseCache.getOrRender("restaurant:1:2", false, () -> restaurant(2L), r -> true);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void getOrRender_GzipMiss_StoresCompressedVariant() throws Exception {
+        RestaurantDto dto = restaurant(2L);
+        dto.setAddress("x".repeat(4096));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:2", true, () -> dto, r -> true);
+
+        assertTrue(result.gzipped());
+        assertTrue(result.content().length < 4096);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.content()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(dto), in.readAllBytes());
+        }
+        verify(valueOperations).set("response:restaurant:1:2:gzip", result.content(), properties.getTtl());
+    }
+
+    @Test
+    void getOrRender_GzipBelowThreshold_StaysPlain() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:2", true, () -> restaurant(2L), r -> true);
+
+        assertFalse(result.gzipped());
+        verify(valueOperations).set("response:restaurant:1:2:gzip", result.content(), properties.getTtl());
+    }
+
+    @Test
+    void getOrRender_GzipHit_DetectsEncoding() {
+        byte[] compressed = {0x1f, (byte) 0x8b, 8, 0};
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("response:restaurant:1:2:gzip")).thenReturn(compressed);
+
+        EncodedBody result = responseCache.getOrRender("restaurant:1:2", true,
+                () -> fail("body must not be loaded"), r -> true);
+
+        assertTrue(result.gzipped());
+        assertSame(compressed, result.content());
+    }
+
+    @Test
+    void getOrEncode_Plain_BypassesRedis() {
+        byte[] document = "{}".getBytes(StandardCharsets.UTF_8);
+
+        EncodedBody result = responseCache.getOrEncode("menu:1:5", false, () -> document);
+
+        assertSame(document, result.content());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private RestaurantDto restaurant(Long version) {
+        RestaurantDto dto = new RestaurantDto();
+        dto.setName("Test Restaurant");
+        dto.setVersion(version);
+        return dto;
+    }
+}
@@ -2,13 +2,26 @@ package v1.foodDeliveryPlatform.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import v1.foodDeliveryPlatform.exception.PreconditionFailedException;
 import v1.foodDeliveryPlatform.exception.ResourceNotFoundException;
+import v1.foodDeliveryPlatform.model.CuisineCount;
+import v1.foodDeliveryPlatform.model.Dish;
+import v1.foodDeliveryPlatform.model.DishImage;
+import v1.foodDeliveryPlatform.model.NearbyRestaurant;
 import v1.foodDeliveryPlatform.model.Restaurant;
+import v1.foodDeliveryPlatform.model.RestaurantImage;
+import v1.foodDeliveryPlatform.model.event.MenuChangedEvent;
 import v1.foodDeliveryPlatform.model.feign.RestaurantClient;
 import v1.foodDeliveryPlatform.repository.RestaurantRepository;
+import v1.foodDeliveryPlatform.repository.projection.NearbyView;
 import v1.foodDeliveryPlatform.service.impl.RestaurantServiceImpl;
 
 import java.util.List;
@@ -24,6 +37,15 @@ class RestaurantServiceImplTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RestaurantServiceImpl restaurantService;
 
@@ -64,6 +86,30 @@ class RestaurantServiceImplTest {
         assertNotNull(result);
         assertEquals(restaurantName, result.getName());
         verify(restaurantRepository).save(newRestaurant);
+        verify(autocompleteService).indexRestaurant(result);
+    }
+
+    @Test
+    void createRestaurant_WithLocation() {
+        Restaurant newRestaurant = createTestRestaurant();
+        newRestaurant.setLatitude(57.64911);
+        newRestaurant.setLongitude(10.40744);
+        when(restaurantRepository.save(newRestaurant)).thenReturn(newRestaurant);
+
+        Restaurant result = restaurantService.createRestaurant(newRestaurant);
+
+        assertEquals(12, result.getGeohash().length());
+        assertTrue(result.getGeohash().startsWith("u4pruydqqvj"));
+    }
+
+    @Test
+    void createRestaurant_PartialLocation() {
+        Restaurant newRestaurant = createTestRestaurant();
+        newRestaurant.setLatitude(57.64911);
+
+        assertThrows(IllegalArgumentException.class, () -> restaurantService.createRestaurant(newRestaurant));
+
+        verify(restaurantRepository, never()).save(any());
     }
 
     @Test
@@ -82,18 +128,123 @@ class RestaurantServiceImplTest {
         verify(restaurantRepository).findAll();
     }
 
+    @Test
+    void createRestaurant_NormalizesCuisine() {
+        Restaurant newRestaurant = createTestRestaurant();
+        newRestaurant.setId(null);
+        newRestaurant.setCuisine("итальянская");
+        when(restaurantRepository.save(newRestaurant)).thenReturn(newRestaurant);
+
+        Restaurant result = restaurantService.createRestaurant(newRestaurant);
+
+        assertEquals("ITALIAN", result.getCuisine());
+        verify(restaurantRepository).save(newRestaurant);
+    }
+
+    @Test
+    void createRestaurant_InvalidCuisine() {
+        Restaurant newRestaurant = createTestRestaurant();
+        newRestaurant.setCuisine("Martian");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.createRestaurant(newRestaurant));
+
+        verify(restaurantRepository, never()).save(any());
+    }
+
     @Test
     void getAllByCuisine_Success() {
-        String cuisine = "Italian";
         Restaurant restaurant = createTestRestaurant();
-        when(restaurantRepository.findAllByCuisine(cuisine)).thenReturn(List.of(restaurant));
+        when(restaurantRepository.findAllByCuisine("ITALIAN")).thenReturn(List.of(restaurant));
 
-        List<Restaurant> result = restaurantService.getAllByCuisine(cuisine);
+        List<Restaurant> result = restaurantService.getAllByCuisine("Italian");
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(cuisine, result.getFirst().getCuisine());
-        verify(restaurantRepository).findAllByCuisine(cuisine);
+        assertEquals("ITALIAN", result.getFirst().getCuisine());
+        verify(restaurantRepository).findAllByCuisine("ITALIAN");
+    }
+
+    @Test
+    void getAllByCuisine_DisplayName() {
+        when(restaurantRepository.findAllByCuisine("ITALIAN")).thenReturn(List.of(createTestRestaurant()));
+
+        List<Restaurant> result = restaurantService.getAllByCuisine("Итальянская");
+
+        assertEquals(1, result.size());
+        verify(restaurantRepository).findAllByCuisine("ITALIAN");
+    }
+
+    @Test
+    void getAllByCuisine_Unknown() {
+        List<Restaurant> result = restaurantService.getAllByCuisine("Martian");
+
+        assertTrue(result.isEmpty());
+        verify(restaurantRepository, never()).findAllByCuisine(any());
+    }
+
+    @Test
+    void search_Success() {
+        Page<Restaurant> page = new PageImpl<>(List.of(createTestRestaurant()), PageRequest.of(1, 10), 11);
+        when(restaurantRepository.search("bella", PageRequest.of(1, 10))).thenReturn(page);
+
+        Page<Restaurant> result = restaurantService.search("bella", 1, 10);
+
+        assertEquals(11, result.getTotalElements());
+        verify(restaurantRepository).search("bella", PageRequest.of(1, 10));
+    }
+
+    @Test
+    void search_NegativePage() {
+        assertThrows(IllegalArgumentException.class, () -> restaurantService.search("bella", -1, 10));
+
+        verify(restaurantRepository, never()).search(any(), any());
+    }
+
+    @Test
+    void findNearby_Success() {
+        NearbyView view = mock(NearbyView.class);
+        when(view.getId()).thenReturn(restaurantId);
+        when(view.getName()).thenReturn(restaurantName);
+        when(view.getDistance()).thenReturn(120.5);
+        ArgumentCaptor<String> cells = ArgumentCaptor.forClass(String.class);
+        when(restaurantRepository.findNearby(eq(57.64911), eq(10.40744), eq(1000d), cells.capture(),
+                eq(PageRequest.of(0, 20))))
+                .thenReturn(new PageImpl<>(List.of(view), PageRequest.of(0, 20), 1));
+
+        Page<NearbyRestaurant> result = restaurantService.findNearby(57.64911, 10.40744, 1000, 0, 20);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(restaurantId, result.getContent().get(0).getId());
+        assertEquals(120.5, result.getContent().get(0).getDistance());
+        String[] prefixes = cells.getValue().split(",");
+        assertEquals(9, prefixes.length);
+        assertTrue(List.of(prefixes).stream().anyMatch("u4pruydqqvj"::startsWith));
+    }
+
+    @Test
+    void findNearby_InvalidRadius() {
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.findNearby(57.64911, 10.40744, 100_000, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> restaurantService.findNearby(91, 10.40744, 1000, 0, 20));
+
+        verify(restaurantRepository, never()).findNearby(anyDouble(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    void getCuisineCounts_Success() {
+        when(restaurantRepository.countByCuisine()).thenReturn(List.of(
+                new CuisineCount("ITALIAN", 3L),
+                new CuisineCount("THAI", 1L)));
+
+        List<CuisineCount> result = restaurantService.getCuisineCounts();
+
+        assertEquals(2, result.size());
+        assertEquals("Итальянская", result.getFirst().getName());
+        assertEquals(3, result.getFirst().getCount());
+        assertEquals("Тайская", result.get(1).getName());
+        verify(restaurantRepository).countByCuisine();
     }
 
     @Test
@@ -155,9 +306,24 @@ class RestaurantServiceImplTest {
         assertNotNull(result);
         assertEquals("Updated Restaurant", existingRestaurant.getName());
         assertEquals("Updated Address", existingRestaurant.getAddress());
-        assertEquals("Mexican", existingRestaurant.getCuisine());
+        assertEquals("MEXICAN", existingRestaurant.getCuisine());
         verify(restaurantRepository).findById(restaurantId);
         verify(restaurantRepository).save(existingRestaurant);
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(restaurantId));
+    }
+
+    @Test
+    void updateRestaurant_VersionMismatch() {
+        Restaurant existingRestaurant = createTestRestaurant();
+        existingRestaurant.setVersion(3L);
+        Restaurant updateData = createTestRestaurant();
+        updateData.setVersion(2L);
+
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(existingRestaurant));
+
+        assertThrows(PreconditionFailedException.class, () -> restaurantService.updateRestaurant(updateData));
+
+        verify(restaurantRepository, never()).save(any());
     }
 
     @Test
@@ -179,6 +345,20 @@ class RestaurantServiceImplTest {
         assertDoesNotThrow(() -> restaurantService.delete(restaurantId));
 
         verify(restaurantRepository).deleteById(restaurantId);
+        verify(autocompleteService).removeRestaurant(restaurantId);
+    }
+
+    @Test
+    void delete_SchedulesImageDeletion() {
+        Restaurant restaurant = createTestRestaurant();
+        restaurant.setImages(List.of(RestaurantImage.builder().restaurantId(restaurantId).name("front.jpg").build()));
+        restaurant.setDishes(List.of(Dish.builder().images(List.of(DishImage.builder().name("pizza.jpg").build())).build()));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
+
+        restaurantService.delete(restaurantId);
+
+        verify(outboxService).enqueueImageDeletion(List.of("front.jpg", "pizza.jpg"));
+        verify(restaurantRepository).deleteById(restaurantId);
     }
 
     @Test
@@ -194,14 +374,13 @@ class RestaurantServiceImplTest {
 
     @Test
     void getAllByCuisine_Empty() {
-        String cuisine = "Japanese";
-        when(restaurantRepository.findAllByCuisine(cuisine)).thenReturn(List.of());
+        when(restaurantRepository.findAllByCuisine("JAPANESE")).thenReturn(List.of());
 
-        List<Restaurant> result = restaurantService.getAllByCuisine(cuisine);
+        List<Restaurant> result = restaurantService.getAllByCuisine("Japanese");
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(restaurantRepository).findAllByCuisine(cuisine);
+        verify(restaurantRepository).findAllByCuisine("JAPANESE");
     }
 
     @Test
@@ -220,7 +399,7 @@ class RestaurantServiceImplTest {
                 .id(restaurantId)
                 .name(restaurantName)
                 .address("Test Address")
-                .cuisine("Italian")
+                .cuisine("ITALIAN")
                 .build();
     }
 }
\ No newline at end of file